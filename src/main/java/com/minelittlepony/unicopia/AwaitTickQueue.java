@@ -1,25 +1,35 @@
 package com.minelittlepony.unicopia;
 
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
+
+import org.jetbrains.annotations.Nullable;
+
+import com.minelittlepony.unicopia.server.world.TickScheduler;
+
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.world.World;
 
 public interface AwaitTickQueue {
-    static void scheduleTask(World reference, Consumer<World> task, int ticksLater) {
+    /**
+     * Schedules a task to run on the server after the given number of the world's ticks.
+     *
+     * @return A handle for cancelling the task, or null if the world is not a server world.
+     */
+    @Nullable
+    static TickScheduler.Task scheduleTask(World reference, Consumer<World> task, int ticksLater) {
         if (reference instanceof ServerWorld serverWorld) {
-            CompletableFuture.runAsync(() -> {
-                task.accept(serverWorld);
-            }, CompletableFuture.delayedExecutor(ticksLater * 100, TimeUnit.MILLISECONDS, serverWorld.getServer()));
+            return TickScheduler.get(serverWorld).schedule(task, ticksLater);
         }
+        return null;
     }
 
-    static void scheduleTask(World reference, Consumer<World> task) {
-        if (reference instanceof ServerWorld serverWorld) {
-            CompletableFuture.runAsync(() -> {
-                task.accept(serverWorld);
-            }, CompletableFuture.delayedExecutor(1, TimeUnit.MILLISECONDS, serverWorld.getServer()));
-        }
+    /**
+     * Schedules a task to run on the server at the end of the current tick.
+     *
+     * @return A handle for cancelling the task, or null if the world is not a server world.
+     */
+    @Nullable
+    static TickScheduler.Task scheduleTask(World reference, Consumer<World> task) {
+        return scheduleTask(reference, task, 0);
     }
 }
@@ -1,6 +1,9 @@
 package com.minelittlepony.unicopia;
 
 import net.fabricmc.api.ModInitializer;
+import net.fabricmc.fabric.api.event.lifecycle.v1.CommonLifecycleEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerChunkEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerEntityEvents;
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
 import net.fabricmc.fabric.api.event.player.PlayerBlockBreakEvents;
 import net.fabricmc.fabric.api.resource.ResourceManagerHelper;
@@ -10,6 +13,7 @@ import net.minecraft.util.Identifier;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import com.minelittlepony.unicopia.ability.Abilities;
+import com.minelittlepony.unicopia.ability.magic.Caster;
 import com.minelittlepony.unicopia.ability.data.tree.TreeTypeLoader;
 import com.minelittlepony.unicopia.ability.magic.spell.effect.SpellType;
 import com.minelittlepony.unicopia.ability.magic.spell.trait.TraitLoader;
@@ -32,6 +36,9 @@ import com.minelittlepony.unicopia.network.Channel;
 import com.minelittlepony.unicopia.particle.UParticles;
 import com.minelittlepony.unicopia.server.world.BlockDestructionManager;
 import com.minelittlepony.unicopia.server.world.NocturnalSleepManager;
+import com.minelittlepony.unicopia.server.world.OfflinePlayerCache;
+import com.minelittlepony.unicopia.server.world.ParticleBatcher;
+import com.minelittlepony.unicopia.server.world.TickScheduler;
 import com.minelittlepony.unicopia.server.world.UGameRules;
 import com.minelittlepony.unicopia.server.world.UWorldGen;
 import com.minelittlepony.unicopia.server.world.WeatherConditions;
@@ -71,6 +78,8 @@ public class Unicopia implements ModInitializer {
             ((BlockDestructionManager.Source)w).getDestructionManager().tick();
             ZapAppleStageStore.get(w).tick();
             WeatherConditions.get(w).tick();
+            TickScheduler.get(w).tick();
+            ParticleBatcher.get(w).flush();
             if (Debug.SPELLBOOK_CHAPTERS) {
                 SpellbookChapterLoader.INSTANCE.sendUpdate(w.getServer());
             }
@@ -78,10 +87,23 @@ public class Unicopia implements ModInitializer {
                 Debug.runTests(w);
             }
         });
+        ServerChunkEvents.CHUNK_LOAD.register((w, chunk) -> {
+            ZapAppleStageStore.get(w).onChunkLoaded(chunk.getPos());
+            BlockDestructionManager.of(w).onChunkLoaded(chunk.getPos());
+        });
+        ServerEntityEvents.ENTITY_LOAD.register((entity, w) -> {
+            if (entity instanceof Caster<?> caster) {
+                caster.getMasterId().ifPresent(id -> OfflinePlayerCache.prefetch(w, id));
+            }
+        });
         PlayerBlockBreakEvents.AFTER.register(SeaponyGraceStatusEffect::processBlockChange);
         NocturnalSleepManager.bootstrap();
 
         registerServerDataReloaders(ResourceManagerHelper.get(ResourceType.SERVER_DATA));
+        CommonLifecycleEvents.TAGS_LOADED.register((registries, client) -> {
+            StateMapLoader.INSTANCE.onTagsLoaded();
+            DietsLoader.onTagsLoaded();
+        });
 
         UGameEvents.bootstrap();
         UBlocks.bootstrap();
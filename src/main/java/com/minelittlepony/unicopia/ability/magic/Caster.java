@@ -15,17 +15,13 @@ import com.minelittlepony.unicopia.entity.damage.UDamageSources;
 import com.minelittlepony.unicopia.particle.ParticleSource;
 import com.minelittlepony.unicopia.server.world.Ether;
 import com.minelittlepony.unicopia.server.world.ModificationType;
-import com.minelittlepony.unicopia.server.world.OfflinePlayerCache;
 import com.minelittlepony.unicopia.util.SoundEmitter;
 import com.minelittlepony.unicopia.util.VecHelper;
 
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.LivingEntity;
-import net.minecraft.entity.player.PlayerEntity;
-import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Vec3d;
-import net.minecraft.world.GameRules;
 
 /**
  * Interface for any magically capable entities that can cast or persist spells.
@@ -63,32 +59,18 @@ public interface Caster<E extends Entity> extends
     }
 
     default boolean canModifyAt(BlockPos pos, ModificationType mod) {
+        return getModificationFilter(mod).test(pos);
+    }
 
-        if (mod.checkPhysical()) {
-            if (asWorld().getBlockState(pos).getHardness(asWorld(), pos) < 0) {
-                return false;
-            }
-
-            if (getMaster() instanceof PlayerEntity player) {
-                if (!player.canModifyBlocks() || !asWorld().canPlayerModifyAt(player, pos)) {
-                    return false;
-                }
-            } else {
-                if (asWorld() instanceof ServerWorld sw) {
-                    @Nullable
-                    PlayerEntity player = OfflinePlayerCache.getOfflinePlayer(sw, getMasterId().orElse(null));
-                    if (player != null && !player.canModifyBlocks() || !sw.canPlayerModifyAt(player, pos)) {
-                        return false;
-                    }
-                }
-
-                if (!asWorld().getGameRules().getBoolean(GameRules.DO_MOB_GRIEFING)) {
-                    return false;
-                }
-            }
-        }
+    /**
+     * Creates a filter for checking whether this caster can modify many blocks in one pass.
+     */
+    default ModificationFilter getModificationFilter() {
+        return getModificationFilter(ModificationType.EITHER);
+    }
 
-        return !mod.checkMagical() || canCastAt(Vec3d.ofCenter(pos));
+    default ModificationFilter getModificationFilter(ModificationType mod) {
+        return new ModificationFilter(this, mod);
     }
 
     default Stream<Caster<?>> findAllSpellsInRange(double radius) {
@@ -112,7 +94,7 @@ public interface Caster<E extends Entity> extends
     }
 
     default boolean canCastAt(Vec3d pos) {
-        return !Ether.get(asWorld()).anyMatch(SpellType.ARCANE_PROTECTION, entry -> {
+        return !Ether.get(asWorld()).anyMatch(SpellType.ARCANE_PROTECTION, pos, entry -> {
             var target = entry.entity.getTarget().orElse(null);
             if (target != null && target.pos().distanceTo(pos) <= entry.getRadius()) {
                 Caster<?> caster = entry.getCaster();
@@ -0,0 +1,106 @@
+package com.minelittlepony.unicopia.ability.magic;
+
+import java.util.UUID;
+import java.util.function.Predicate;
+
+import org.jetbrains.annotations.Nullable;
+
+import com.minelittlepony.unicopia.ability.magic.spell.effect.SpellType;
+import com.minelittlepony.unicopia.server.world.Ether;
+import com.minelittlepony.unicopia.server.world.ModificationType;
+import com.minelittlepony.unicopia.server.world.OfflinePlayerCache;
+
+import it.unimi.dsi.fastutil.longs.Long2BooleanMap;
+import it.unimi.dsi.fastutil.longs.Long2BooleanOpenHashMap;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.util.math.Vec3d;
+import net.minecraft.world.GameRules;
+import net.minecraft.world.World;
+
+/**
+ * Checks whether a caster is allowed to modify the blocks at a series of positions.
+ * <p>
+ * The caster's own permissions (its master, whether they may build, game rules) are resolved once
+ * and arcane protection is looked up once per chunk section, so filters are meant to be used for
+ * a single pass over an area and then discarded.
+ *
+ * @see Caster#canModifyAt(BlockPos, ModificationType)
+ */
+public final class ModificationFilter implements Predicate<BlockPos> {
+    private final Caster<?> caster;
+    private final ModificationType mod;
+
+    private boolean resolved;
+    private boolean permitted;
+    private boolean checkPlayer;
+    @Nullable
+    private PlayerEntity player;
+
+    @Nullable
+    private Long2BooleanMap unprotectedSections;
+
+    ModificationFilter(Caster<?> caster, ModificationType mod) {
+        this.caster = caster;
+        this.mod = mod;
+    }
+
+    @Override
+    public boolean test(BlockPos pos) {
+        World world = caster.asWorld();
+
+        if (mod.checkPhysical()) {
+            if (world.getBlockState(pos).getHardness(world, pos) < 0) {
+                return false;
+            }
+
+            if (!resolvePermissions(world) || (checkPlayer && !world.canPlayerModifyAt(player, pos))) {
+                return false;
+            }
+        }
+
+        return !mod.checkMagical() || isUnprotected(world, pos) || caster.canCastAt(Vec3d.ofCenter(pos));
+    }
+
+    private boolean resolvePermissions(World world) {
+        if (!resolved) {
+            resolved = true;
+            if (caster.getMaster() instanceof PlayerEntity player) {
+                this.player = player;
+                checkPlayer = true;
+                permitted = player.canModifyBlocks();
+            } else {
+                permitted = world.getGameRules().getBoolean(GameRules.DO_MOB_GRIEFING);
+                if (world instanceof ServerWorld sw) {
+                    UUID masterId = caster.getMasterId().orElse(null);
+                    player = OfflinePlayerCache.getOfflinePlayer(sw, masterId);
+                    checkPlayer = true;
+                    if (player == null) {
+                        // hold off until we know what the owner is allowed to do
+                        permitted &= !OfflinePlayerCache.isLoading(sw, masterId);
+                    } else {
+                        permitted &= player.canModifyBlocks();
+                    }
+                }
+            }
+        }
+        return permitted;
+    }
+
+    /**
+     * Checks whether no arcane protection spell reaches into the chunk section containing a position,
+     * in which case nothing inside that section can be protected.
+     */
+    private boolean isUnprotected(World world, BlockPos pos) {
+        if (unprotectedSections == null) {
+            unprotectedSections = new Long2BooleanOpenHashMap();
+        }
+        return unprotectedSections.computeIfAbsent(ChunkSectionPos.asLong(
+                ChunkSectionPos.getSectionCoord(pos.getX()),
+                ChunkSectionPos.getSectionCoord(pos.getY()),
+                ChunkSectionPos.getSectionCoord(pos.getZ())
+        ), section -> !Ether.get(world).anyMatch(SpellType.ARCANE_PROTECTION, pos, entry -> true));
+    }
+}
@@ -41,8 +41,15 @@ class MultiSpellSlot implements SpellSlots, NbtSerialisable {
 
     @Override
     public boolean contains(UUID id) {
-        return tracker.contains(id)
-            || tracker.values().stream().anyMatch(s -> s.spell.equalsOrContains(id));
+        if (tracker.contains(id)) {
+            return true;
+        }
+        for (Entry<Spell> entry : tracker.values()) {
+            if (entry.spell.equalsOrContains(id)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
@@ -62,6 +69,35 @@ class MultiSpellSlot implements SpellSlots, NbtSerialisable {
         return tracker.values().stream().flatMap(s -> s.spell.findMatches(type));
     }
 
+    @Override
+    public <T extends Spell> Optional<T> get(@Nullable SpellPredicate<T> type) {
+        return Optional.ofNullable(find(type));
+    }
+
+    @Override
+    public boolean contains(@Nullable SpellPredicate<?> type) {
+        return find(type) != null;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return tracker.isEmpty();
+    }
+
+    @Nullable
+    private <T extends Spell> T find(@Nullable SpellPredicate<T> type) {
+        if (tracker.isEmpty()) {
+            return null;
+        }
+        for (Entry<Spell> entry : tracker.values()) {
+            T match = entry.spell.findMatch(type);
+            if (match != null) {
+                return match;
+            }
+        }
+        return null;
+    }
+
     @Override
     public boolean clear(boolean force) {
         return tracker.clear(force);
@@ -146,6 +182,8 @@ class MultiSpellSlot implements SpellSlots, NbtSerialisable {
             byte contentType = buffer.readByte();
             if (contentType == 1) {
                 readTrackedNbt(PacketCodec.COMPRESSED_NBT.read(buffer));
+            } else if (contentType == 2) {
+                readTrackedNbt(PacketCodec.NBT.read(buffer));
             } else {
                 T spell = this.spell.get();
                 if (spell != null) {
@@ -158,8 +196,16 @@ class MultiSpellSlot implements SpellSlots, NbtSerialisable {
         public Optional<PacketByteBuf> write(Status status) {
             if (status != Status.DEFAULT) {
                 PacketByteBuf buffer = new PacketByteBuf(Unpooled.buffer());
-                buffer.writeByte(1);
-                PacketCodec.COMPRESSED_NBT.write(buffer, spell.toNBT());
+                // only compress the initial payload, updates are usually too small to benefit from it
+                if (status == Status.NEW) {
+                    buffer.writeByte(1);
+                    PacketCodec.COMPRESSED_NBT.write(buffer, spell.toNBT());
+                } else {
+                    buffer.writeByte(2);
+                    PacketCodec.NBT.write(buffer, spell.toNBT());
+                    // initial payloads are also written for new watchers, who mustn't take updates away from everyone else
+                    spell.clearDirtySpell();
+                }
                 return Optional.of(buffer);
             }
             @Nullable T spell = this.spell.get();
@@ -1,5 +1,6 @@
 package com.minelittlepony.unicopia.ability.magic;
 
+import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Stream;
 
@@ -47,6 +48,21 @@ class SingleSpellSlot implements SpellSlots, NbtSerialisable {
         return entry.spell.findMatches(type);
     }
 
+    @Override
+    public <T extends Spell> Optional<T> get(@Nullable SpellPredicate<T> type) {
+        return Optional.ofNullable(entry.spell.findMatch(type));
+    }
+
+    @Override
+    public boolean contains(@Nullable SpellPredicate<?> type) {
+        return entry.spell.findMatch(type) != null;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return entry.spell.get() == null;
+    }
+
     @Override
     public boolean clear(boolean force) {
         if (entry.spell.get() != null) {
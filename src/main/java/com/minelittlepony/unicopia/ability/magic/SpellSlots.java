@@ -46,6 +46,13 @@ public interface SpellSlots extends NbtSerialisable, Copyable<SpellSlots> {
      */
     boolean contains(UUID id);
 
+    /**
+     * Checks whether there are no spells active in this slot.
+     */
+    default boolean isEmpty() {
+        return stream().findAny().isEmpty();
+    }
+
     /**
      * Gets the active effect for this caster
      */
@@ -89,7 +96,7 @@ public interface SpellSlots extends NbtSerialisable, Copyable<SpellSlots> {
      * @return True if the collection was changed
      */
     default boolean removeIf(SpellPredicate<?> test) {
-        return removeWhere(spell -> spell.findMatches(test).findFirst().isPresent());
+        return removeWhere(spell -> spell.findMatch(test) != null);
     }
 
     /**
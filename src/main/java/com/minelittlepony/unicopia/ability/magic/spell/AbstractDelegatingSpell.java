@@ -50,6 +50,12 @@ public abstract class AbstractDelegatingSpell implements Spell {
         return Stream.concat(Spell.super.findMatches(predicate), delegate.findMatches(predicate));
     }
 
+    @Override
+    public <T extends Spell> T findMatch(SpellPredicate<T> predicate) {
+        T match = Spell.super.findMatch(predicate);
+        return match != null ? match : delegate.findMatch(predicate);
+    }
+
     @Override
     public CustomisedSpellType<?> getTypeAndTraits() {
         return type;
@@ -92,6 +98,12 @@ public abstract class AbstractDelegatingSpell implements Spell {
         getOrEmpty().setDirty();
     }
 
+    @Deprecated
+    @Override
+    public void clearDirty() {
+        delegate.clearDirtySpell();
+    }
+
     @Override
     public boolean isHidden() {
         return getOrEmpty().isHidden();
@@ -7,6 +7,7 @@ import com.minelittlepony.unicopia.ability.magic.SpellPredicate;
 import com.minelittlepony.unicopia.ability.magic.spell.effect.*;
 import com.minelittlepony.unicopia.entity.behaviour.Disguise;
 import com.minelittlepony.unicopia.entity.behaviour.EntityAppearance;
+import com.minelittlepony.unicopia.entity.collision.CollisionRegistry;
 import com.minelittlepony.unicopia.entity.player.Pony;
 import com.minelittlepony.unicopia.projectile.ProjectileImpactListener;
 
@@ -35,6 +36,7 @@ public abstract class AbstractDisguiseSpell extends AbstractSpell implements Dis
             pony.setInvisible(false);
         }
         disguise.remove();
+        CollisionRegistry.get(caster.asWorld()).remove(caster.asEntity());
     }
 
     @Override
@@ -49,7 +51,11 @@ public abstract class AbstractDisguiseSpell extends AbstractSpell implements Dis
 
     @Override
     public boolean tick(Caster<?> source, Situation situation) {
-        return situation == Situation.BODY && update(source, true);
+        if (situation == Situation.BODY && update(source, true)) {
+            CollisionRegistry.get(source.asWorld()).update(source.asEntity(), disguise);
+            return true;
+        }
+        return false;
     }
 
     @Override
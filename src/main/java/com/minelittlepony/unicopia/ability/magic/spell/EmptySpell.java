@@ -60,6 +60,9 @@ public final class EmptySpell implements Spell {
     @Override
     public void setDirty() { }
 
+    @Override
+    public void clearDirty() { }
+
     @Override
     public boolean isHidden() {
         return true;
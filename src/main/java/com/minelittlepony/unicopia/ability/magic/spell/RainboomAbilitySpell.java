@@ -6,6 +6,7 @@ import com.minelittlepony.unicopia.InteractionManager;
 import com.minelittlepony.unicopia.UTags;
 import com.minelittlepony.unicopia.ability.Abilities;
 import com.minelittlepony.unicopia.ability.magic.Caster;
+import com.minelittlepony.unicopia.ability.magic.ModificationFilter;
 import com.minelittlepony.unicopia.ability.magic.spell.effect.*;
 import com.minelittlepony.unicopia.entity.damage.UDamageTypes;
 import com.minelittlepony.unicopia.entity.player.Pony;
@@ -62,9 +63,10 @@ public class RainboomAbilitySpell extends AbstractSpell {
         source.findAllEntitiesInRange(RADIUS, e -> !source.isOwnerOrFriend(e)).forEach(e -> {
             e.damage(source.damageOf(UDamageTypes.RAINBOOM, source), 6);
         });
-        EFFECT_RANGE.translate(source.getOrigin()).getBlockPositions().forEach(pos -> {
+        ModificationFilter canModify = source.getModificationFilter(ModificationType.PHYSICAL);
+        EFFECT_RANGE.translate(source.getOrigin()).forEachBlockPosition(pos -> {
             BlockState state = source.asWorld().getBlockState(pos);
-            if (state.isIn(UTags.Blocks.FRAGILE) && source.canModifyAt(pos, ModificationType.PHYSICAL)) {
+            if (state.isIn(UTags.Blocks.FRAGILE) && canModify.test(pos)) {
                 source.asWorld().breakBlock(pos, true);
             }
         });
@@ -62,6 +62,15 @@ public interface Spell extends NbtSerialisable, Affine {
         return predicate == null || predicate.test(this) ? Stream.of((T)this) : Stream.empty();
     }
 
+    /**
+     * Returns the first spell, this one or one that it contains, that matches the given predicate.
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    default <T extends Spell> T findMatch(@Nullable SpellPredicate<T> predicate) {
+        return predicate == null || predicate.test(this) ? (T)this : null;
+    }
+
     /**
      * Sets this effect as dead.
      */
@@ -86,6 +95,12 @@ public interface Spell extends NbtSerialisable, Affine {
     @Deprecated
     void setDirty();
 
+    /**
+     * Marks this effect as clean once its changes have been sent to the client.
+     */
+    @Deprecated
+    void clearDirty();
+
     /**
      * Applies this spell to the supplied caster.
      * @param caster    The caster to apply the spell to
@@ -30,6 +30,13 @@ public final class SpellReference<T extends Spell> implements NbtSerialisable {
         return spell != null && spell.isDirty();
     }
 
+    @Deprecated
+    public void clearDirtySpell() {
+        if (spell != null) {
+            spell.clearDirty();
+        }
+    }
+
     public boolean set(T spell, @Nullable Caster<?> owner) {
         spell = spell == null || spell.isDead() ? null : spell;
         if (spell == this.spell) {
@@ -54,6 +61,12 @@ public final class SpellReference<T extends Spell> implements NbtSerialisable {
         return spell != null ? (predicate == null ? Stream.of((V)spell) : spell.findMatches(predicate)) : Stream.empty();
     }
 
+    @Nullable
+    public <V extends Spell> V findMatch(@Nullable SpellPredicate<V> predicate) {
+        @Nullable T spell = get();
+        return spell != null ? spell.findMatch(predicate) : null;
+    }
+
     @Override
     public void toNBT(NbtCompound compound) {
         if (spell != null && !spell.isDead()) {
@@ -78,6 +78,12 @@ public abstract class AbstractSpell implements Spell {
         dirty = true;
     }
 
+    @Deprecated
+    @Override
+    public final void clearDirty() {
+        dirty = false;
+    }
+
     @Override
     public final boolean isHidden() {
         return hidden.get();
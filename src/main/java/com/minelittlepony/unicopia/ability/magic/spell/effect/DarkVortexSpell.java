@@ -9,6 +9,7 @@ import com.minelittlepony.unicopia.UTags;
 import com.minelittlepony.unicopia.Unicopia;
 import com.minelittlepony.unicopia.ability.magic.Affine;
 import com.minelittlepony.unicopia.ability.magic.Caster;
+import com.minelittlepony.unicopia.ability.magic.ModificationFilter;
 import com.minelittlepony.unicopia.ability.magic.spell.CastingMethod;
 import com.minelittlepony.unicopia.ability.magic.spell.Situation;
 import com.minelittlepony.unicopia.ability.magic.spell.Spell;
@@ -28,6 +29,7 @@ import com.minelittlepony.unicopia.projectile.MagicProjectileEntity;
 import com.minelittlepony.unicopia.projectile.ProjectileDelegate;
 import com.minelittlepony.unicopia.server.world.UGameRules;
 import com.minelittlepony.unicopia.util.Lerp;
+import com.minelittlepony.unicopia.util.shape.Shape;
 import com.minelittlepony.unicopia.util.shape.Sphere;
 
 import net.minecraft.block.Block;
@@ -57,6 +59,7 @@ public class DarkVortexSpell extends AbstractSpell implements ProjectileDelegate
             .with(Trait.STRENGTH, 70)
             .with(Trait.DARKNESS, 100)
             .build();
+    private static final Shape CRACK_RANGE = new Sphere(false, 3);
 
     private final DataTracker.Entry<Float> accumulatedMass = this.dataTracker.startTracking(TrackableDataType.FLOAT, 0F);
 
@@ -132,11 +135,12 @@ public class DarkVortexSpell extends AbstractSpell implements ProjectileDelegate
             }
         } else {
             if (eventHorizon > 2) {
+                ModificationFilter canModify = source.getModificationFilter();
                 new Sphere(false, eventHorizon + 3).translate(origin).randomPoints(10, source.asWorld().random).forEach(i -> {
                     BlockPos pos = BlockPos.ofFloored(i);
                     if (!source.asWorld().isAir(pos)) {
-                        new Sphere(false, 3).translate(i).getBlockPositions().forEach(p -> {
-                            affectBlock(source, p, origin);
+                        CRACK_RANGE.translate(pos).forEachBlockPosition(p -> {
+                            affectBlock(source, canModify, p, origin);
                         });
                         ParticleUtils.spawnParticle(source.asWorld(), new LightningBoltParticleEffect(true, 10, 6, 3, Optional.of(i)), getOrigin(source), Vec3d.ZERO);
                     }
@@ -220,14 +224,14 @@ public class DarkVortexSpell extends AbstractSpell implements ProjectileDelegate
         return 2;
     }
 
-    private boolean canAffect(Caster<?> source, BlockPos pos) {
-        return source.canModifyAt(pos)
+    private boolean canAffect(Caster<?> source, ModificationFilter canModify, BlockPos pos) {
+        return canModify.test(pos)
             && source.asWorld().getBlockState(pos).getHardness(source.asWorld(), pos) >= 0
             && !source.asWorld().getBlockState(pos).isIn(UTags.Blocks.CATAPULT_IMMUNE);
     }
 
-    private void affectBlock(Caster<?> source, BlockPos pos, Vec3d origin) {
-        if (!canAffect(source, pos)) {
+    private void affectBlock(Caster<?> source, ModificationFilter canModify, BlockPos pos, Vec3d origin) {
+        if (!canAffect(source, canModify, pos)) {
             if (source.asWorld().getBlockState(pos).isOf(Blocks.BEDROCK)) {
                 source.asWorld().setBlockState(pos, Blocks.BARRIER.getDefaultState());
             }
@@ -3,6 +3,7 @@ package com.minelittlepony.unicopia.ability.magic.spell.effect;
 import com.minelittlepony.unicopia.EquinePredicates;
 import com.minelittlepony.unicopia.USounds;
 import com.minelittlepony.unicopia.ability.magic.Caster;
+import com.minelittlepony.unicopia.ability.magic.ModificationFilter;
 import com.minelittlepony.unicopia.ability.magic.spell.Situation;
 import com.minelittlepony.unicopia.ability.magic.spell.AbstractAreaEffectSpell;
 import com.minelittlepony.unicopia.ability.magic.spell.trait.SpellTraits;
@@ -67,10 +68,12 @@ public class FireSpell extends AbstractAreaEffectSpell implements ProjectileDele
             generateParticles(source);
         }
 
-        return new Sphere(false, RANGE.get(getTraits())).translate(source.getOrigin()).getBlockPositions().reduce(false,
-                (r, i) -> source.canModifyAt(i) && applyBlocks(source.asWorld(), i),
-                (a, b) -> a || b)
-                || applyEntities(source, source.getOriginVector());
+        ModificationFilter canModify = source.getModificationFilter();
+        boolean[] applied = new boolean[1];
+        new Sphere(false, RANGE.get(getTraits())).translate(source.getOrigin()).forEachBlockPosition(i -> {
+            applied[0] = canModify.test(i) && applyBlocks(source.asWorld(), i);
+        });
+        return applied[0] || applyEntities(source, source.getOriginVector());
     }
 
     protected void generateParticles(Caster<?> source) {
@@ -5,6 +5,7 @@ import java.util.Set;
 
 import com.minelittlepony.unicopia.USounds;
 import com.minelittlepony.unicopia.ability.magic.Caster;
+import com.minelittlepony.unicopia.ability.magic.ModificationFilter;
 import com.minelittlepony.unicopia.ability.magic.spell.CastingMethod;
 import com.minelittlepony.unicopia.ability.magic.spell.Situation;
 import com.minelittlepony.unicopia.ability.magic.spell.Spell;
@@ -60,12 +61,13 @@ public class HydrophobicSpell extends AbstractSpell {
     public boolean tick(Caster<?> source, Situation situation) {
         if (!source.isClient()) {
             World world = source.asWorld();
+            ModificationFilter canModify = source.getModificationFilter();
 
             Shape area = new Sphere(false, getRange(source)).translate(source.getOriginVector());
 
             storedFluidPositions.removeIf(entry -> {
                if (!area.isPointInside(Vec3d.ofCenter(entry.pos()))) {
-                   if (source.canModifyAt(entry.pos())) {
+                   if (canModify.test(entry.pos())) {
                        entry.restore(world);
                    }
                    return true;
@@ -74,11 +76,11 @@ public class HydrophobicSpell extends AbstractSpell {
                return false;
             });
 
-            area.getBlockPositions().forEach(pos -> {
-                pos = new BlockPos(pos);
+            area.forEachBlockPosition(mutable -> {
+                BlockPos pos = mutable.toImmutable();
                 BlockState state = world.getBlockState(pos);
 
-                if (source.canModifyAt(pos) && state.getFluidState().isIn(affectedFluid)) {
+                if (canModify.test(pos) && state.getFluidState().isIn(affectedFluid)) {
                     Block block = state.getBlock();
 
                     if (block instanceof FluidBlock) {
@@ -100,7 +102,7 @@ public class HydrophobicSpell extends AbstractSpell {
 
             source.spawnParticles(new Sphere(true, range), 10, pos -> {
                 BlockPos bp = BlockPos.ofFloored(pos);
-                if (source.canModifyAt(bp) && source.asWorld().getFluidState(bp.up()).isIn(affectedFluid)) {
+                if (canModify.test(bp) && source.asWorld().getFluidState(bp.up()).isIn(affectedFluid)) {
                     source.addParticle(UParticles.RAIN_DROPS, pos, Vec3d.ZERO);
                 }
             });
@@ -120,8 +122,9 @@ public class HydrophobicSpell extends AbstractSpell {
     @Override
     protected void onDestroyed(Caster<?> caster) {
         super.onDestroyed(caster);
+        ModificationFilter canModify = caster.getModificationFilter();
         storedFluidPositions.removeIf(entry -> {
-            if (caster.canModifyAt(entry.pos())) {
+            if (canModify.test(entry.pos())) {
                 entry.restore(caster.asWorld());
             }
             return true;
@@ -186,7 +189,7 @@ public class HydrophobicSpell extends AbstractSpell {
             return false;
         }
 
-        return Ether.get(sw).anyMatch(SpellType.HYDROPHOBIC, entry -> {
+        return Ether.get(sw).anyMatch(SpellType.HYDROPHOBIC, pos, entry -> {
             var target = entry.entity.getTarget().orElse(null);
             if (target == null || !pos.isWithinDistance(target.pos(), entry.getRadius() + 1)) {
                 return false;
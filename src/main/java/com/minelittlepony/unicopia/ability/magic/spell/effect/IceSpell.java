@@ -4,6 +4,7 @@ import java.util.List;
 
 import com.minelittlepony.unicopia.Owned;
 import com.minelittlepony.unicopia.ability.magic.Caster;
+import com.minelittlepony.unicopia.ability.magic.ModificationFilter;
 import com.minelittlepony.unicopia.ability.magic.spell.Situation;
 import com.minelittlepony.unicopia.ability.magic.spell.attribute.AttributeFormat;
 import com.minelittlepony.unicopia.ability.magic.spell.attribute.SpellAttribute;
@@ -48,9 +49,11 @@ public class IceSpell extends AbstractSpell {
     public boolean tick(Caster<?> source, Situation situation) {
         boolean submerged = source.asEntity().isSubmergedInWater() || source.asEntity().isSubmergedIn(FluidTags.LAVA);
         float radius = RANGE.get(getTraits());
+        ModificationFilter canModify = source.getModificationFilter();
 
-        long blocksAffected = new Sphere(false, radius).translate(source.getOrigin()).getBlockPositions().filter(i -> {
-            if (source.canModifyAt(i) && applyBlockSingle(source.asEntity(), source.asWorld(), i, situation)) {
+        int[] blocksAffected = new int[1];
+        new Sphere(false, radius).translate(source.getOrigin()).forEachBlockPosition(i -> {
+            if (canModify.test(i) && applyBlockSingle(source.asEntity(), source.asWorld(), i, situation)) {
 
                 if (submerged & source.getOrigin().isWithinDistance(i, RANGE.get(getTraits()) - 1)) {
                     BlockState state = source.asWorld().getBlockState(i);
@@ -66,13 +69,11 @@ public class IceSpell extends AbstractSpell {
                         i.getY() + 1,
                         i.getZ() + source.asWorld().random.nextFloat()), Vec3d.ZERO);
 
-                return true;
+                blocksAffected[0]++;
             }
+        });
 
-            return false;
-        }).count();
-
-        if (!source.subtractEnergyCost(Math.min(10, blocksAffected / 30))) {
+        if (!source.subtractEnergyCost(Math.min(10, blocksAffected[0] / 30))) {
             setDead();
         }
 
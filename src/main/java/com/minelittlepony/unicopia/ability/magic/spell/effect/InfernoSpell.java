@@ -1,6 +1,7 @@
 package com.minelittlepony.unicopia.ability.magic.spell.effect;
 
 import com.minelittlepony.unicopia.ability.magic.Caster;
+import com.minelittlepony.unicopia.ability.magic.ModificationFilter;
 import com.minelittlepony.unicopia.ability.magic.spell.Situation;
 import com.minelittlepony.unicopia.block.state.BlockStateConverter;
 import com.minelittlepony.unicopia.block.state.StateMaps;
@@ -35,11 +36,12 @@ public class InfernoSpell extends FireSpell {
             Vec3d origin = source.getOriginVector();
 
             BlockStateConverter converter = w.getDimension().ultrawarm() ? StateMaps.HELLFIRE_AFFECTED.getInverse() : StateMaps.HELLFIRE_AFFECTED;
+            ModificationFilter canModify = source.getModificationFilter();
 
             for (int i = 0; i < radius; i++) {
                 BlockPos pos = BlockPos.ofFloored(shape.computePoint(w.random).add(origin));
 
-                if (source.canModifyAt(pos) && converter.convert(w, pos)) {
+                if (canModify.test(pos) && converter.convert(w, pos)) {
                     playEffect(w, pos);
                 }
             }
@@ -50,7 +52,7 @@ public class InfernoSpell extends FireSpell {
                     Vec3d vec = shape.computePoint(w.random).add(origin);
                     BlockPos pos = BlockPos.ofFloored(vec);
 
-                    if (source.canModifyAt(pos) && !applyBlocks(w, pos)) {
+                    if (canModify.test(pos) && !applyBlocks(w, pos)) {
                         applyEntities(source, vec);
                     }
                 }
@@ -3,6 +3,7 @@ package com.minelittlepony.unicopia.ability.magic.spell.trait;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -17,13 +18,18 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import org.jetbrains.annotations.Nullable;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
 import com.minelittlepony.unicopia.Unicopia;
 import com.minelittlepony.unicopia.client.gui.ItemTraitsTooltipRenderer;
-import com.minelittlepony.unicopia.util.InventoryUtil;
 import com.mojang.datafixers.util.Pair;
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.DataResult;
 
+import it.unimi.dsi.fastutil.objects.ObjectArraySet;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
 import net.minecraft.block.Block;
@@ -41,15 +47,26 @@ import net.minecraft.util.math.MathHelper;
 import net.minecraft.registry.Registries;
 
 public final class SpellTraits implements Iterable<Map.Entry<Trait, Float>> {
-    public static final SpellTraits EMPTY = new SpellTraits(Map.of());
-    private static final SpellTraits SPAWN_EGG_TRAITS = new SpellTraits(Map.of(Trait.LIFE, 20F));
+    private static final Trait[] TRAITS = Trait.values();
+
+    public static final SpellTraits EMPTY = new SpellTraits(new float[TRAITS.length]);
+    private static final SpellTraits SPAWN_EGG_TRAITS = new Builder().with(Trait.LIFE, 20F).build();
 
     private static Map<Identifier, SpellTraits> REGISTRY = new HashMap<>();
     static final Map<Trait, List<Item>> ITEMS = new HashMap<>();
 
+    /**
+     * Traits parsed from item stacks, keyed by the identity of their spell_traits compound.
+     * Those compounds are always replaced rather than modified, so a compound that's still
+     * referenced by a stack will always parse to the same traits.
+     */
+    private static final LoadingCache<NbtCompound, Optional<SpellTraits>> EMBEDDED_TRAITS = CacheBuilder.newBuilder()
+            .weakKeys()
+            .build(CacheLoader.from(SpellTraits::fromNbt));
+
     public static final Codec<SpellTraits> CODEC = Codec.unboundedMap(Trait.CODEC, Codec.FLOAT).flatXmap(
             map -> DataResult.success(fromEntries(map.entrySet().stream()).orElse(EMPTY)),
-            traits -> DataResult.success(traits.traits)
+            traits -> DataResult.success(traits.asMap())
     );
 
     public static void load(Map<Identifier, SpellTraits> newRegistry) {
@@ -75,26 +92,73 @@ public final class SpellTraits implements Iterable<Map.Entry<Trait, Float>> {
         return new HashMap<>(REGISTRY);
     }
 
-    private final Map<Trait, Float> traits;
+    /**
+     * Trait strengths indexed by {@link Trait#ordinal()}. Absent traits have a strength of zero.
+     * Never modified after construction.
+     */
+    private final float[] traits;
+    private final int size;
+
+    @Nullable
+    private Set<Map.Entry<Trait, Float>> entries;
 
-    SpellTraits(Map<Trait, Float> traits) {
+    private SpellTraits(float[] traits) {
         this.traits = traits;
+        int size = 0;
+        for (float value : traits) {
+            if (value != 0) {
+                size++;
+            }
+        }
+        this.size = size;
     }
 
-    SpellTraits(SpellTraits from) {
-        this(new EnumMap<>(from.traits));
+    /**
+     * Wraps an array of trait strengths, taking ownership of it.
+     */
+    private static SpellTraits of(float[] traits) {
+        for (float value : traits) {
+            if (value != 0) {
+                return new SpellTraits(traits);
+            }
+        }
+        return EMPTY;
     }
 
     public float getCorruption() {
-        return (float)stream().filter(e -> e.getValue() != 0).mapToDouble(e -> e.getKey().getGroup().getCorruption()).sum();
+        float corruption = 0;
+        for (int i = 0; i < traits.length; i++) {
+            if (traits[i] != 0) {
+                corruption += TRAITS[i].getGroup().getCorruption();
+            }
+        }
+        return corruption;
     }
 
     public SpellTraits multiply(float factor) {
-        return factor == 0 ? EMPTY : map(v -> v * factor);
+        if (factor == 0 || isEmpty()) {
+            return EMPTY;
+        }
+        float[] values = new float[traits.length];
+        for (int i = 0; i < traits.length; i++) {
+            if (traits[i] != 0) {
+                values[i] = traits[i] * factor;
+            }
+        }
+        return of(values);
     }
 
     public SpellTraits add(float amount) {
-        return amount == 0 ? this : map(v -> v + amount);
+        if (amount == 0 || isEmpty()) {
+            return this;
+        }
+        float[] values = new float[traits.length];
+        for (int i = 0; i < traits.length; i++) {
+            if (traits[i] != 0) {
+                values[i] = traits[i] + amount;
+            }
+        }
+        return of(values);
     }
 
     public SpellTraits add(SpellTraits traits) {
@@ -110,13 +174,17 @@ public final class SpellTraits implements Iterable<Map.Entry<Trait, Float>> {
             return this;
         }
 
-        Map<Trait, Float> newMap = new EnumMap<>(traits);
-        newMap.entrySet().forEach(entry -> entry.setValue(function.apply(entry.getKey(), entry.getValue())));
-        return fromEntries(newMap.entrySet().stream()).orElse(EMPTY);
+        float[] values = new float[traits.length];
+        for (int i = 0; i < traits.length; i++) {
+            if (traits[i] != 0) {
+                values[i] = function.apply(TRAITS[i], traits[i]);
+            }
+        }
+        return of(values);
     }
 
     public boolean isEmpty() {
-        return traits.isEmpty();
+        return size == 0;
     }
 
     public boolean isPresent() {
@@ -124,9 +192,12 @@ public final class SpellTraits implements Iterable<Map.Entry<Trait, Float>> {
     }
 
     public boolean includes(SpellTraits other) {
-        return other.stream().allMatch(pair -> {
-            return get(pair.getKey()) >= pair.getValue();
-        });
+        for (int i = 0; i < traits.length; i++) {
+            if (other.traits[i] != 0 && traits[i] < other.traits[i]) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
@@ -134,8 +205,19 @@ public final class SpellTraits implements Iterable<Map.Entry<Trait, Float>> {
         return entries().iterator();
     }
 
+    @SuppressWarnings("unchecked")
     public Set<Map.Entry<Trait, Float>> entries() {
-        return traits.entrySet();
+        if (entries == null) {
+            Map.Entry<Trait, Float>[] array = new Map.Entry[size];
+            int index = 0;
+            for (int i = 0; i < traits.length; i++) {
+                if (traits[i] != 0) {
+                    array[index++] = Map.entry(TRAITS[i], traits[i]);
+                }
+            }
+            entries = Collections.unmodifiableSet(new ObjectArraySet<>(array));
+        }
+        return entries;
     }
 
     public Stream<Map.Entry<Trait, Float>> stream() {
@@ -143,12 +225,12 @@ public final class SpellTraits implements Iterable<Map.Entry<Trait, Float>> {
     }
 
     public float getOrDefault(Trait trait, float def) {
-        float i = traits.getOrDefault(trait, def);
+        float i = traits[trait.ordinal()];
         return i == 0 ? def : i;
     }
 
     public float get(Trait trait) {
-        return getOrDefault(trait, 0F);
+        return traits[trait.ordinal()];
     }
 
     public float get(Trait trait, float min, float max) {
@@ -163,33 +245,49 @@ public final class SpellTraits implements Iterable<Map.Entry<Trait, Float>> {
         tooltip.add(1, new ItemTraitsTooltipRenderer(this));
     }
 
+    private Map<Trait, Float> asMap() {
+        Map<Trait, Float> map = new EnumMap<>(Trait.class);
+        for (int i = 0; i < traits.length; i++) {
+            if (traits[i] != 0) {
+                map.put(TRAITS[i], traits[i]);
+            }
+        }
+        return map;
+    }
+
     public NbtCompound toNbt() {
         NbtCompound nbt = new NbtCompound();
-        traits.forEach((key, value) -> nbt.putFloat(key.getId().toString(), value));
+        for (int i = 0; i < traits.length; i++) {
+            if (traits[i] != 0) {
+                nbt.putFloat(TRAITS[i].getId().toString(), traits[i]);
+            }
+        }
         return nbt;
     }
 
     public void write(PacketByteBuf buf) {
-        buf.writeInt(traits.size());
-        traits.forEach((trait, value) -> {
-            buf.writeIdentifier(trait.getId());
-            buf.writeFloat(value);
-        });
+        buf.writeInt(size);
+        for (int i = 0; i < traits.length; i++) {
+            if (traits[i] != 0) {
+                buf.writeIdentifier(TRAITS[i].getId());
+                buf.writeFloat(traits[i]);
+            }
+        }
     }
 
     @Override
     public String toString() {
-        return "SpellTraits[" + traits.entrySet().stream().map(e -> e.getKey() + "=" + e.getValue()).collect(Collectors.joining(",")) + "]";
+        return "SpellTraits[" + stream().map(e -> e.getKey() + "=" + e.getValue()).collect(Collectors.joining(",")) + "]";
     }
 
     @Override
     public int hashCode() {
-        return traits.hashCode();
+        return Arrays.hashCode(traits);
     }
 
     @Override
     public boolean equals(Object other) {
-        return this == other || other instanceof SpellTraits && Objects.equals(traits, ((SpellTraits) other).traits);
+        return this == other || other instanceof SpellTraits && Arrays.equals(traits, ((SpellTraits) other).traits);
     }
 
     public static SpellTraits union(SpellTraits a, SpellTraits b) {
@@ -199,26 +297,31 @@ public final class SpellTraits implements Iterable<Map.Entry<Trait, Float>> {
         if (b.isEmpty()) {
             return a;
         }
-        Map<Trait, Float> traits = new HashMap<>();
-        combine(traits, a.traits);
-        combine(traits, b.traits);
-        return traits.isEmpty() ? EMPTY : new SpellTraits(traits);
+        return new Builder().add(a).add(b).build();
     }
 
     public static SpellTraits union(SpellTraits...many) {
-        Map<Trait, Float> traits = new HashMap<>();
+        Builder builder = new Builder();
         for (SpellTraits i : many) {
-            combine(traits, i.traits);
+            builder.add(i);
         }
-        return traits.isEmpty() ? EMPTY : new SpellTraits(traits);
+        return builder.build();
     }
 
     public static SpellTraits of(Inventory inventory) {
-        return of(InventoryUtil.stream(inventory).toList());
+        Builder builder = new Builder();
+        for (int i = 0; i < inventory.size(); i++) {
+            builder.add(of(inventory.getStack(i)));
+        }
+        return builder.build();
     }
 
     public static SpellTraits of(Collection<ItemStack> stacks) {
-        return fromEntries(stacks.stream().flatMap(a -> of(a).entries().stream())).orElse(SpellTraits.EMPTY);
+        Builder builder = new Builder();
+        for (ItemStack stack : stacks) {
+            builder.add(of(stack));
+        }
+        return builder.build();
     }
 
     public static SpellTraits of(ItemStack stack) {
@@ -247,7 +350,7 @@ public final class SpellTraits implements Iterable<Map.Entry<Trait, Float>> {
         if (!stack.hasNbt() || !stack.getNbt().contains("spell_traits", NbtElement.COMPOUND_TYPE)) {
             return Optional.empty();
         }
-        return fromNbt(stack.getNbt().getCompound("spell_traits"));
+        return EMBEDDED_TRAITS.getUnchecked(stack.getNbt().getCompound("spell_traits"));
     }
 
     public ItemStack applyTo(ItemStack stack) {
@@ -269,27 +372,18 @@ public final class SpellTraits implements Iterable<Map.Entry<Trait, Float>> {
     }
 
     public static SpellTraits fromPacket(PacketByteBuf buf) {
-        Map<Trait, Float> entries = new HashMap<>();
         int count = buf.readInt();
         if (count <= 0) {
             return SpellTraits.EMPTY;
         }
 
+        Builder builder = new Builder();
         for (int i = 0; i < count; i++) {
             Identifier id = buf.readIdentifier();
             float value = buf.readFloat();
-            if (value == 0) {
-                continue;
-            }
-
-            Trait.fromId(id).ifPresent(trait -> {
-                entries.compute(trait, (k, v) -> v == null ? value : (v + value));
-            });
-        }
-        if (entries.isEmpty()) {
-            return SpellTraits.EMPTY;
+            Trait.fromId(id).ifPresent(trait -> builder.add(trait, value));
         }
-        return new SpellTraits(entries);
+        return builder.build();
     }
 
     public static Optional<SpellTraits> fromString(String traits) {
@@ -309,41 +403,51 @@ public final class SpellTraits implements Iterable<Map.Entry<Trait, Float>> {
     }
 
     public static Optional<SpellTraits> fromEntries(Stream<Map.Entry<Trait, Float>> entries) {
-        var result = collect(entries);
-
-        if (result.isEmpty()) {
-            return Optional.empty();
-        }
-        return Optional.of(new SpellTraits(result));
+        Builder builder = new Builder();
+        entries.filter(Objects::nonNull).forEach(entry -> builder.add(entry.getKey(), entry.getValue()));
+        SpellTraits result = builder.build();
+        return result.isEmpty() ? Optional.empty() : Optional.of(result);
     }
 
-    static void combine(Map<Trait, Float> to, Map<Trait, Float> from) {
-        if (from.isEmpty()) {
-            return;
-        }
-        from.forEach((trait, value) -> {
-            if (value != 0) {
-                to.compute(trait, (k, v) -> v == null ? value : (v + value));
+    /**
+     * Accumulates trait strengths in place. Building hands the array over to the new traits,
+     * so it is only copied if the builder is modified again afterwards.
+     */
+    public static final class Builder {
+        private float[] traits = new float[TRAITS.length];
+        private boolean built;
+
+        private float[] values() {
+            if (built) {
+                built = false;
+                traits = traits.clone();
             }
-        });
-    }
+            return traits;
+        }
 
-    static Map<Trait, Float> collect(Stream<Map.Entry<Trait, Float>> entries) {
-        return entries.filter(Objects::nonNull)
-                .filter(e -> e.getValue() != 0)
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (a, b) -> a + b, () -> new EnumMap<>(Trait.class)));
-    }
+        public Builder with(Trait trait, float amount) {
+            values()[trait.ordinal()] = amount;
+            return this;
+        }
 
-    public static final class Builder {
-        private final Map<Trait, Float> traits = new EnumMap<>(Trait.class);
+        public Builder add(Trait trait, float amount) {
+            values()[trait.ordinal()] += amount;
+            return this;
+        }
 
-        public Builder with(Trait trait, float amount) {
-            traits.put(trait, amount);
+        public Builder add(SpellTraits traits) {
+            if (traits.isPresent()) {
+                float[] values = values();
+                for (int i = 0; i < values.length; i++) {
+                    values[i] += traits.traits[i];
+                }
+            }
             return this;
         }
 
         public SpellTraits build() {
-            return fromEntries(traits.entrySet().stream()).orElse(SpellTraits.EMPTY);
+            built = true;
+            return of(traits);
         }
     }
 }
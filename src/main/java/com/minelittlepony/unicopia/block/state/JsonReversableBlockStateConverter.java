@@ -8,14 +8,22 @@ import org.jetbrains.annotations.Nullable;
 
 import com.google.gson.*;
 
+import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
 import net.minecraft.util.JsonHelper;
 import net.minecraft.world.World;
 
 public class JsonReversableBlockStateConverter implements ReversableBlockStateConverter {
+    private static final BlockStateConverter NO_MATCH = new JsonReversableBlockStateConverter(List.of(), null);
 
     private final List<BlockStateConverter> entries;
 
+    /**
+     * The entry that applies to each block state, indexed by the state's raw id.
+     * Filled in as states are looked up, and replaced when tags are reloaded since entries may match against them.
+     */
+    private volatile Lookup lookup = new Lookup(-1, new BlockStateConverter[0]);
+
     @Nullable
     private ReversableBlockStateConverter inverse;
 
@@ -33,15 +41,52 @@ public class JsonReversableBlockStateConverter implements ReversableBlockStateCo
 
     @Override
     public boolean canConvert(@Nullable BlockState state) {
-        return entries.stream().anyMatch(entry -> entry.canConvert(state));
+        return getEntry(state) != null;
     }
 
     @Override
     public @NotNull BlockState getConverted(World world, @NotNull BlockState state) {
-        return entries.stream().filter(entry -> entry.canConvert(state))
-                .findFirst()
-                .map(entry -> entry.getConverted(world, state))
-                .orElse(state);
+        @Nullable BlockStateConverter entry = getEntry(state);
+        return entry == null ? state : entry.getConverted(world, state);
+    }
+
+    @Nullable
+    private BlockStateConverter getEntry(@Nullable BlockState state) {
+        if (state == null || entries.isEmpty()) {
+            return null;
+        }
+
+        int id = Block.getRawIdFromState(state);
+        BlockStateConverter[] table = getLookupTable();
+        if (id < 0 || id >= table.length) {
+            return findEntry(state);
+        }
+
+        BlockStateConverter entry = table[id];
+        if (entry == null) {
+            entry = findEntry(state);
+            table[id] = entry == null ? NO_MATCH : entry;
+        }
+        return entry == NO_MATCH ? null : entry;
+    }
+
+    private BlockStateConverter[] getLookupTable() {
+        Lookup lookup = this.lookup;
+        int version = StateMapLoader.INSTANCE.getTagsVersion();
+        if (lookup.version() != version) {
+            this.lookup = lookup = new Lookup(version, new BlockStateConverter[Block.STATE_IDS.size()]);
+        }
+        return lookup.entries();
+    }
+
+    @Nullable
+    private BlockStateConverter findEntry(BlockState state) {
+        for (BlockStateConverter entry : entries) {
+            if (entry.canConvert(state)) {
+                return entry;
+            }
+        }
+        return null;
     }
 
     @Override
@@ -56,6 +101,8 @@ public class JsonReversableBlockStateConverter implements ReversableBlockStateCo
         return inverse;
     }
 
+    private record Lookup(int version, BlockStateConverter[] entries) {}
+
     record Entry (
             Predicate<BlockState> match,
             StateChange stateChange,
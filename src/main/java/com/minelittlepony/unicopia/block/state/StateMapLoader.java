@@ -32,7 +32,9 @@ public class StateMapLoader extends JsonDataLoader implements IdentifiableResour
     private static final int FILE_SUFFIX_LENGTH = ".json".length();
     private static final String DATA_TYPE = "state_maps";
 
-    private Map<Identifier, ReversableBlockStateConverter> converters = new HashMap<>();
+    private volatile Map<Identifier, ReversableBlockStateConverter> converters = new HashMap<>();
+
+    private volatile int tagsVersion;
 
     public StateMapLoader() {
         super(Resources.GSON, "state_maps");
@@ -43,6 +45,17 @@ public class StateMapLoader extends JsonDataLoader implements IdentifiableResour
         return ID;
     }
 
+    /**
+     * Incremented whenever tags are reloaded so converters know to discard any lookups that depended on them.
+     */
+    public int getTagsVersion() {
+        return tagsVersion;
+    }
+
+    public void onTagsLoaded() {
+        tagsVersion++;
+    }
+
     @Override
     protected Map<Identifier, JsonElement> prepare(ResourceManager resourceManager, Profiler profiler) {
         Map<Identifier, JsonElement> map = Maps.newHashMap();
@@ -95,34 +108,61 @@ public class StateMapLoader extends JsonDataLoader implements IdentifiableResour
         private final Identifier id;
         private final BlockStateConverter inverse;
 
+        @Nullable
+        private volatile Resolved<T> resolved;
+
         public Indirect(Identifier id, Optional<BlockStateConverter> inverse) {
             this.id = id;
             this.inverse = inverse.orElseGet(() -> new StateMapLoader.Indirect<>(id, Optional.of(this)) {
                 @Override
-                public Optional<BlockStateConverter> get() {
-                    return Optional.ofNullable(INSTANCE.converters.get(id)).map(map -> map.getInverse());
+                @Nullable
+                protected BlockStateConverter lookup(Map<Identifier, ReversableBlockStateConverter> converters) {
+                    ReversableBlockStateConverter map = converters.get(id);
+                    return map == null ? null : map.getInverse();
                 }
             });
         }
 
         @Override
         public boolean canConvert(@Nullable BlockState state) {
-            return get().filter(map -> map.canConvert(state)).isPresent();
+            @Nullable T map = resolve();
+            return map != null && map.canConvert(state);
         }
 
         @Override
         public @NotNull BlockState getConverted(World world, @NotNull BlockState state) {
-            return get().map(map -> map.getConverted(world, state)).orElse(state);
+            @Nullable T map = resolve();
+            return map == null ? state : map.getConverted(world, state);
         }
 
-        @SuppressWarnings("unchecked")
         public Optional<T> get() {
-            return Optional.ofNullable((T)INSTANCE.converters.get(id));
+            return Optional.ofNullable(resolve());
+        }
+
+        /**
+         * Gets the converter this one points to, looking it up again only after the state maps have been reloaded.
+         */
+        @Nullable
+        private T resolve() {
+            Map<Identifier, ReversableBlockStateConverter> converters = INSTANCE.converters;
+            Resolved<T> resolved = this.resolved;
+            if (resolved == null || resolved.source() != converters) {
+                this.resolved = resolved = new Resolved<>(converters, lookup(converters));
+            }
+            return resolved.value();
+        }
+
+        @SuppressWarnings("unchecked")
+        @Nullable
+        protected T lookup(Map<Identifier, ReversableBlockStateConverter> converters) {
+            return (T)converters.get(id);
         }
 
         @Override
         public BlockStateConverter getInverse() {
             return inverse;
         }
+
+        private record Resolved<T>(Map<Identifier, ReversableBlockStateConverter> source, @Nullable T value) {}
     }
 }
@@ -47,7 +47,14 @@ public abstract class StatePredicate implements Predicate<BlockState> {
             if (predicates.isEmpty()) {
                 return Predicates.alwaysFalse();
             }
-            return state -> predicates.stream().anyMatch(pred -> pred.test(state));
+            return state -> {
+                for (int i = 0; i < predicates.size(); i++) {
+                    if (predicates.get(i).test(state)) {
+                        return true;
+                    }
+                }
+                return false;
+            };
         }
 
         JsonObject o = json.getAsJsonObject();
@@ -101,7 +108,12 @@ public abstract class StatePredicate implements Predicate<BlockState> {
 
     private static Predicate<BlockState> allOf(List<Predicate<BlockState>> predicates) {
         return state -> {
-            return predicates.isEmpty() || predicates.stream().allMatch(p -> p.test(state));
+            for (int i = 0; i < predicates.size(); i++) {
+                if (!predicates.get(i).test(state)) {
+                    return false;
+                }
+            }
+            return true;
         };
     }
 
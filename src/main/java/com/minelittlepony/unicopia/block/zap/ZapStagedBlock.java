@@ -12,32 +12,57 @@ import net.minecraft.util.math.random.Random;
 import net.minecraft.world.World;
 
 public interface ZapStagedBlock {
+    /**
+     * The time of day after which leaves that missed their transition during the day will try again.
+     */
+    long NIGHTFALL = 13000;
+
     ZapAppleStageStore.Stage getStage(BlockState state);
 
     default void updateStage(BlockState state, World world, BlockPos pos) {
         if (!(world instanceof ServerWorld sw)) {
             return;
         }
-        ZapAppleStageStore.Stage currentStage = ZapAppleStageStore.get(sw).getStage();
+        ZapAppleStageStore store = ZapAppleStageStore.get(sw);
+        store.addTree(pos);
+        ZapAppleStageStore.Stage currentStage = store.getStage();
         if (currentStage != getStage(state)) {
             state = getState(currentStage);
             world.setBlockState(pos, state);
         }
-        world.scheduleBlockTick(pos, state.getBlock(), 1);
+    }
+
+    /**
+     * Schedules this block to transition to the given stage after a random delay.
+     * Called by the {@link ZapAppleStageStore} when the global stage changes.
+     */
+    default void scheduleStageChange(BlockState state, World world, BlockPos pos, ZapAppleStageStore.Stage stage) {
+        if (stage != getStage(state)) {
+            int transitionRate = getTransitionRate(stage);
+            int delay = transitionRate == 0 ? 0 : (int)(-Math.log(1 - world.random.nextFloat()) * transitionRate);
+            world.scheduleBlockTick(pos, state.getBlock(), 1 + delay);
+        }
     }
 
     default void tryAdvanceStage(BlockState state, ServerWorld world, BlockPos pos, Random random) {
         ZapAppleStageStore store = ZapAppleStageStore.get(world);
+        boolean newlyRegistered = store.addTree(pos);
         ZapAppleStageStore.Stage currentStage = store.getStage();
-        if (!world.isDay() && currentStage != getStage(state)) {
-            int transitionRate = getTransitionRate(currentStage);
-            if (transitionRate == 0 || random.nextInt(transitionRate) == 0) {
-                state = getState(currentStage);
-                world.setBlockState(pos, state);
-                onStageChanged(store, currentStage, world, state, pos, random);
-            }
+        if (currentStage == getStage(state)) {
+            return;
+        }
+        if (newlyRegistered) {
+            scheduleStageChange(state, world, pos, currentStage);
+            return;
+        }
+        if (world.isDay()) {
+            long timeOfDay = world.getTimeOfDay() % ZapAppleStageStore.DAY_LENGTH;
+            world.scheduleBlockTick(pos, state.getBlock(), (int)Math.max(20, NIGHTFALL - timeOfDay) + random.nextInt(200));
+            return;
         }
-        world.scheduleBlockTick(pos, state.getBlock(), 1);
+        state = getState(currentStage);
+        world.setBlockState(pos, state);
+        onStageChanged(store, currentStage, world, state, pos, random);
     }
 
     default int getTransitionRate(ZapAppleStageStore.Stage stage) {
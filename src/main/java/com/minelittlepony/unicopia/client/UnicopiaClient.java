@@ -160,6 +160,7 @@ public class UnicopiaClient implements ClientModInitializer {
         BlockPos pos = MinecraftClient.getInstance().getCameraEntity().getBlockPos();
         float tickDelta = MinecraftClient.getInstance().getTickDelta();
 
+        WeatherConditions.get(world).tickStorms();
         Float targetRainGradient = getTargetRainGradient(world, pos, tickDelta);
 
         if (targetRainGradient != null) {
@@ -77,11 +77,32 @@ public record DietProfile(
     }
 
     public Optional<Multiplier> findMultiplier(ItemStack stack) {
-        return multipliers.stream().filter(m -> m.test(stack)).findFirst();
+        return PonyDiets.getInstance().findMatch(this, stack).multiplier();
     }
 
     public Optional<Effect> findEffect(ItemStack stack) {
-        return effects.stream().filter(m -> m.test(stack)).findFirst().or(this::defaultEffect).map(Effect.class::cast);
+        return PonyDiets.getInstance().findMatch(this, stack).effect();
+    }
+
+    Match match(ItemStack stack) {
+        return new Match(
+                multipliers.stream().filter(m -> m.test(stack)).findFirst(),
+                effects.stream().filter(m -> m.test(stack)).findFirst().or(this::defaultEffect).map(Effect.class::cast)
+        );
+    }
+
+    boolean isIndexable() {
+        for (Multiplier multiplier : multipliers) {
+            if (!ItemIndex.isIndexable(multiplier.tags())) {
+                return false;
+            }
+        }
+        for (FoodGroupEffects effect : effects) {
+            if (!ItemIndex.isIndexable(effect.tags())) {
+                return false;
+            }
+        }
+        return true;
     }
 
     static boolean isForaged(ItemStack stack) {
@@ -164,6 +185,8 @@ public record DietProfile(
         return food;
     }
 
+    record Match(Optional<Multiplier> multiplier, Optional<Effect> effect) {}
+
     public record Multiplier(
             Set<FoodGroupKey> tags,
             float hunger,
@@ -23,6 +23,19 @@ public class DietsLoader implements IdentifiableResourceReloadListener {
     private static final Logger LOGGER = LogUtils.getLogger();
     private static final Identifier ID = Unicopia.id("diets");
 
+    private static volatile int tagsVersion;
+
+    /**
+     * Incremented whenever tags are reloaded so diets know to discard anything they've looked up by item.
+     */
+    public static int getTagsVersion() {
+        return tagsVersion;
+    }
+
+    public static void onTagsLoaded() {
+        tagsVersion++;
+    }
+
     @Override
     public Identifier getFabricId() {
         return ID;
@@ -28,6 +28,12 @@ public interface FoodGroupKey {
                 return group != null && group.test(stack);
             }
 
+            @Override
+            public boolean isIndexable() {
+                // food groups are only ever made up of item tags
+                return true;
+            }
+
             @Override
             public boolean equals(Object o) {
                 return o == this && (o instanceof FoodGroupKey k && k.id().equals(id()));
@@ -59,6 +65,11 @@ public interface FoodGroupKey {
                 return stack.isIn(tag);
             }
 
+            @Override
+            public boolean isIndexable() {
+                return true;
+            }
+
             @Override
             public boolean equals(Object o) {
                 return o == this && (o instanceof FoodGroupKey k && k.id().equals(id()));
@@ -77,4 +88,12 @@ public interface FoodGroupKey {
     Identifier id();
 
     boolean contains(ItemStack stack);
+
+    /**
+     * Checks whether membership of this group is decided by nothing but the stack's item,
+     * so the result can be remembered for every stack of that item.
+     */
+    default boolean isIndexable() {
+        return false;
+    }
 }
@@ -0,0 +1,51 @@
+package com.minelittlepony.unicopia.diet;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+
+/**
+ * Remembers what a diet lookup resolved to for each item.
+ * <p>
+ * Entries are filled in as items are looked up and discarded whenever tags are reloaded.
+ * Lookups that depend on more than the stack's item are never cached, and go straight to the resolver instead.
+ */
+final class ItemIndex<T> {
+    private final Function<ItemStack, T> resolver;
+    private final boolean indexable;
+
+    private volatile Entries<T> entries = new Entries<>(-1, Map.of());
+
+    ItemIndex(Function<ItemStack, T> resolver, boolean indexable) {
+        this.resolver = resolver;
+        this.indexable = indexable;
+    }
+
+    public T get(ItemStack stack) {
+        if (!indexable) {
+            return resolver.apply(stack);
+        }
+
+        int version = DietsLoader.getTagsVersion();
+        Entries<T> entries = this.entries;
+        if (entries.version() != version) {
+            this.entries = entries = new Entries<>(version, new ConcurrentHashMap<>());
+        }
+        return entries.values().computeIfAbsent(stack.getItem(), item -> resolver.apply(stack));
+    }
+
+    static boolean isIndexable(Collection<FoodGroupKey> keys) {
+        for (FoodGroupKey key : keys) {
+            if (!key.isIndexable()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private record Entries<T>(int version, Map<Item, T> values) {}
+}
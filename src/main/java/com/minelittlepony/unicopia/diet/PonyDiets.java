@@ -13,6 +13,8 @@ import com.minelittlepony.unicopia.Race;
 import com.minelittlepony.unicopia.entity.effect.FoodPoisoningStatusEffect;
 import com.minelittlepony.unicopia.entity.player.Pony;
 import com.minelittlepony.unicopia.item.ItemDuck;
+
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
 import net.minecraft.client.item.TooltipContext;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.player.PlayerEntity;
@@ -29,6 +31,9 @@ public class PonyDiets implements DietView {
     private final Map<Race, DietProfile> diets;
     private final Map<Identifier, Effect> effects;
 
+    private final ItemIndex<Effect> effectIndex;
+    private final Map<DietProfile, ItemIndex<DietProfile.Match>> profileIndex = new Reference2ObjectOpenHashMap<>();
+
     private static PonyDiets INSTANCE = new PonyDiets(Map.of(), Map.of());
 
     public static PonyDiets getInstance() {
@@ -47,6 +52,8 @@ public class PonyDiets implements DietView {
     PonyDiets(Map<Race, DietProfile> diets, Map<Identifier, Effect> effects) {
         this.diets = diets;
         this.effects = effects;
+        this.effectIndex = new ItemIndex<>(this::findEffects, effects.values().stream().allMatch(effect -> ItemIndex.isIndexable(effect.tags())));
+        diets.values().forEach(profile -> profileIndex.put(profile, new ItemIndex<>(profile::match, profile.isIndexable())));
     }
 
     public PonyDiets(PacketByteBuf buffer) {
@@ -66,9 +73,18 @@ public class PonyDiets implements DietView {
     }
 
     Effect getEffects(ItemStack stack) {
+        return effectIndex.get(stack);
+    }
+
+    private Effect findEffects(ItemStack stack) {
         return effects.values().stream().filter(effect -> effect.test(stack)).findFirst().orElse(Effect.EMPTY);
     }
 
+    DietProfile.Match findMatch(DietProfile profile, ItemStack stack) {
+        ItemIndex<DietProfile.Match> index = profileIndex.get(profile);
+        return index == null ? profile.match(stack) : index.get(stack);
+    }
+
     private Effect getEffects(ItemStack stack, Pony pony) {
         return getDiet(pony).findEffect(stack).orElseGet(() -> getEffects(stack));
     }
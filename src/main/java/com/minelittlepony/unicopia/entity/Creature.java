@@ -40,6 +40,11 @@ import net.minecraft.util.math.MathHelper;
 public class Creature extends Living<LivingEntity> implements WeaklyOwned.Mutable<LivingEntity> {
     public static void boostrap() {}
 
+    /**
+     * Number of consecutive ticks a creature has to spend with nothing to do before it stops being updated.
+     */
+    private static final int DORMANCY_DELAY = 20;
+
     private final EntityPhysics<LivingEntity> physics;
 
     private final EntityReference<LivingEntity> owner = new EntityReference<>();
@@ -54,6 +59,8 @@ public class Creature extends Living<LivingEntity> implements WeaklyOwned.Mutabl
     private boolean discordedChanged = true;
     private int smittenTicks;
 
+    private int idleTicks;
+
     private final Predicate<LivingEntity> targetPredicate = TargetSelecter.<LivingEntity>validTarget(() -> getOriginatingCaster().getAffinity(), this).and(e -> {
         return Equine.of(e)
                 .filter(eq -> eq instanceof Creature)
@@ -217,9 +224,30 @@ public class Creature extends Living<LivingEntity> implements WeaklyOwned.Mutabl
             }
         }
 
+        if (isActive()) {
+            idleTicks = 0;
+        } else if (idleTicks < DORMANCY_DELAY) {
+            idleTicks++;
+        }
+
         return super.beforeUpdate();
     }
 
+    @Override
+    protected boolean isDormant() {
+        return idleTicks >= DORMANCY_DELAY;
+    }
+
+    @Override
+    protected boolean isActive() {
+        return super.isActive()
+                || smittenTicks > 0
+                || eatTimer > 0
+                || (isClient() ? eating.get() > 0 : eatMuffinGoal != null && eatMuffinGoal.getTimer() > 0)
+                || isMinion()
+                || !physics.hasDefaultGravity();
+    }
+
     private void clearGoals(GoalSelector t) {
         t.clear(g -> true);
     }
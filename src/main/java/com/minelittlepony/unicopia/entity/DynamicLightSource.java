@@ -15,6 +15,7 @@ public interface DynamicLightSource {
     static final class LightEmitter<T extends Entity & DynamicLightSource> {
         @Nullable
         private BlockPos lastPos;
+        private int lastLight;
 
         private final T entity;
 
@@ -32,13 +33,17 @@ public interface DynamicLightSource {
             int light = entity.getLightLevel();
 
             if (light <= 0) {
+                if (lastPos != null) {
+                    remove();
+                }
                 return;
             }
 
             BlockPos currentPos = entity.getBlockPos();
 
-            if (!currentPos.equals(lastPos) && entity.getWorld().isChunkLoaded(currentPos)) {
-                LightSources.get(entity.getWorld()).addLightSource(entity);
+            if ((light != lastLight || !currentPos.equals(lastPos)) && entity.getWorld().isChunkLoaded(currentPos)) {
+                LightSources.get(entity.getWorld()).updateLightSource(entity, currentPos, light);
+                lastLight = light;
 
                 try {
                     if (lastPos != null) {
@@ -52,10 +57,12 @@ public interface DynamicLightSource {
 
         public void remove() {
             LightSources.get(entity.getWorld()).removeLightSource(entity);
+            lastLight = 0;
             if (lastPos != null) {
                 try {
                     entity.getWorld().getLightingProvider().checkBlock(lastPos);
                 } catch (Exception ignored) {}
+                lastPos = null;
             }
         }
     }
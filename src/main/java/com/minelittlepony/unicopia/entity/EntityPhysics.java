@@ -49,6 +49,13 @@ public class EntityPhysics<T extends Entity> implements Physics, Copyable<Entity
         }
     }
 
+    /**
+     * Checks whether this entity's gravity is, and was last tick, the same as normal.
+     */
+    public boolean hasDefaultGravity() {
+        return lastGravity == 1 && getGravityModifier() == 1;
+    }
+
     protected void onGravitychanged() {
         entity.calculateDimensions();
 
@@ -27,6 +27,13 @@ public class LandingEventHandler implements Tickable {
         }
     }
 
+    /**
+     * Checks whether a callback is waiting for the entity to land.
+     */
+    public boolean isWaiting() {
+        return callback.get() != null;
+    }
+
     public void beforeTick() {
 
     }
@@ -60,9 +60,11 @@ import net.minecraft.nbt.NbtCompound;
 import net.minecraft.network.packet.s2c.play.EntityPassengersSetS2CPacket;
 import net.minecraft.particle.ParticleTypes;
 import net.minecraft.registry.tag.DamageTypeTags;
+import net.minecraft.scoreboard.AbstractTeam;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.sound.BlockSoundGroup;
 import net.minecraft.sound.SoundCategory;
+import net.minecraft.text.Text;
 import net.minecraft.util.Hand;
 import net.minecraft.util.Util;
 import net.minecraft.util.hit.BlockHitResult;
@@ -72,6 +74,8 @@ import net.minecraft.util.math.MathHelper;
 import net.minecraft.util.math.Vec3d;
 
 public abstract class Living<T extends LivingEntity> implements Equine<T>, Caster<T>, AttributeContainer {
+    private static final EquipmentSlot[] EQUIPMENT_SLOTS = EquipmentSlot.values();
+
     protected final T entity;
 
     private final SpellInventory spells;
@@ -93,6 +97,13 @@ public abstract class Living<T extends LivingEntity> implements Equine<T>, Caste
 
     private final List<Tickable> tickers = new ArrayList<>();
 
+    @Nullable
+    private String dragonBreathRecipient;
+    @Nullable
+    private Text dragonBreathNameSource;
+    @Nullable
+    private AbstractTeam dragonBreathTeam;
+
     private final LandingEventHandler landEvent = addTicker(new LandingEventHandler(this));
     private final Enchantments enchants = addTicker(new Enchantments(this));
     private final ItemTracker armour = addTicker(new ItemTracker(this));
@@ -198,8 +209,48 @@ public abstract class Living<T extends LivingEntity> implements Equine<T>, Caste
         return EnchantmentHelper.getEquipmentLevel(UEnchantments.FEATHER_TOUCH, entity) > 0;
     }
 
+    /**
+     * Checks whether this entity has been left with nothing for us to do, in which case
+     * {@link #beforeUpdate()} and {@link #tick()} are skipped entirely.
+     */
+    protected boolean isDormant() {
+        return false;
+    }
+
+    /**
+     * Checks whether anything on this entity needs updating every tick.
+     * Everything checked here has to be cheap since it's called every tick even while dormant.
+     */
+    protected boolean isActive() {
+        if (!spells.getSlots().isEmpty()
+                || invinsibilityTicks > 0
+                || entity.hasVehicle()
+                || !entity.getActiveStatusEffects().isEmpty()
+                || getCarrierId().isPresent()
+                || landEvent.isWaiting()
+                || transportation.isActive()) {
+            return true;
+        }
+
+        for (EquipmentSlot slot : EQUIPMENT_SLOTS) {
+            if (!entity.getEquippedStack(slot).isEmpty()) {
+                return true;
+            }
+        }
+
+        if (entity.getWorld().isClient || !entity.hasCustomName()) {
+            return false;
+        }
+
+        DragonBreathStore store = DragonBreathStore.get(entity.getWorld());
+        return store.hasPendingEntries() && store.hasPendingEntries(getDragonBreathRecipient());
+    }
+
     @Override
     public boolean beforeUpdate() {
+        if (isDormant()) {
+            return false;
+        }
         landEvent.beforeTick();
         if (entity.hasStatusEffect(UEffects.PARALYSIS) && entity.getVelocity().horizontalLengthSquared() > 0) {
             entity.setVelocity(entity.getVelocity().multiply(0, 1, 0));
@@ -211,6 +262,9 @@ public abstract class Living<T extends LivingEntity> implements Equine<T>, Caste
 
     @Override
     public void tick() {
+        if (isDormant()) {
+            return;
+        }
         tickers.forEach(Tickable::tick);
         spells.tick(Situation.BODY);
 
@@ -268,14 +322,36 @@ public abstract class Living<T extends LivingEntity> implements Equine<T>, Caste
         return Optional.empty();
     }
 
+    /**
+     * Gets the name dragon's breath payloads are addressed to for this entity.
+     * The display name is only formatted again when the entity's custom name or team changes.
+     */
+    private String getDragonBreathRecipient() {
+        Text customName = entity.getCustomName();
+        AbstractTeam team = entity.getScoreboardTeam();
+        if (dragonBreathRecipient == null || customName != dragonBreathNameSource || team != dragonBreathTeam) {
+            dragonBreathNameSource = customName;
+            dragonBreathTeam = team;
+            dragonBreathRecipient = entity.getDisplayName().getString();
+        }
+        return dragonBreathRecipient;
+    }
+
     private void updateDragonBreath() {
         if (!entity.getWorld().isClient && (entity instanceof PlayerEntity || entity.hasCustomName())) {
+            DragonBreathStore store = DragonBreathStore.get(entity.getWorld());
+            if (!store.hasPendingEntries()) {
+                return;
+            }
+
+            String name = getDragonBreathRecipient();
+            if (!store.hasPendingEntries(name)) {
+                return;
+            }
 
             Vec3d targetPos = entity.getRotationVector().multiply(2).add(entity.getEyePos());
 
             if (entity.getWorld().isAir(BlockPos.ofFloored(targetPos))) {
-                DragonBreathStore store = DragonBreathStore.get(entity.getWorld());
-                String name = entity.getDisplayName().getString();
                 store.popEntries(name).forEach(stack -> {
                     ItemStack payload = stack.payload();
                     Item item = payload.getItem();
@@ -46,6 +46,13 @@ public class Transportation<T extends LivingEntity> implements Tickable {
         updatePreviousPosition();
     }
 
+    /**
+     * Checks whether the entity is, or was last tick, riding on top of a vehicle.
+     */
+    public boolean isActive() {
+        return vehicle != null || ticksInVehicle > 0;
+    }
+
     @Override
     public void tick() {
         if (vehicle != null) {
@@ -0,0 +1,236 @@
+package com.minelittlepony.unicopia.entity.collision;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+import org.jetbrains.annotations.Nullable;
+
+import com.minelittlepony.unicopia.Unicopia;
+import com.minelittlepony.unicopia.entity.collision.EntityCollisions.ComplexCollidable;
+import com.minelittlepony.unicopia.server.world.WorldOverlay;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import net.minecraft.block.ShapeContext;
+import net.minecraft.entity.Entity;
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.math.Box;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.util.shape.VoxelShape;
+import net.minecraft.world.PersistentState;
+import net.minecraft.world.World;
+
+/**
+ * Tracks the entities in a world that contribute extra collision shapes (disguises, air balloons, etc.)
+ * bucketed by the chunk sections their shapes overlap.
+ * <p>
+ * Contributors refresh their registration every tick, rebuilding their cached shapes if they've moved or changed.
+ * Anything that stops doing so is ignored after a tick and dropped the next time the registry is updated.
+ */
+public class CollisionRegistry extends PersistentState {
+    private static final Identifier ID = Unicopia.id("collision_registry");
+    /**
+     * Extra distance around a contributor's shapes to account for contextual shapes that may extend past the ones sampled.
+     */
+    private static final double MARGIN = 1;
+
+    private final Int2ObjectMap<Entry> entries = new Int2ObjectOpenHashMap<>();
+    private final Long2ObjectMap<List<Entry>> sections = new Long2ObjectOpenHashMap<>();
+
+    private final World world;
+
+    private long lastPruneTime;
+
+    public static CollisionRegistry get(World world) {
+        return WorldOverlay.getPersistableStorage(world, ID, CollisionRegistry::new, CollisionRegistry::new);
+    }
+
+    CollisionRegistry(World world, NbtCompound compound) {
+        this(world);
+    }
+
+    CollisionRegistry(World world) {
+        this.world = world;
+    }
+
+    @Override
+    public NbtCompound writeNbt(NbtCompound compound) {
+        return compound;
+    }
+
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    public void update(Entity entity, ComplexCollidable collidable) {
+        long time = world.getTime();
+        if (time != lastPruneTime) {
+            lastPruneTime = time;
+            entries.values().removeIf(entry -> {
+                if (isStale(entry, time)) {
+                    entry.unindex();
+                    return true;
+                }
+                return false;
+            });
+        }
+
+        Entry entry = entries.computeIfAbsent(entity.getId(), id -> new Entry(entity));
+        entry.lastUpdate = time;
+        if (entry.collidable != collidable || entry.boundingBox != entity.getBoundingBox() || entry.shapesHash != collidable.getCollissionShapesHash()) {
+            entry.rebuild(collidable);
+        }
+    }
+
+    public void remove(Entity entity) {
+        Entry entry = entries.remove(entity.getId());
+        if (entry != null) {
+            entry.unindex();
+        }
+    }
+
+    public void getCollissionShapes(@Nullable Entity except, Box box, ShapeContext context, Consumer<VoxelShape> output) {
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        long time = world.getTime();
+        SectionBounds bounds = SectionBounds.of(box);
+        if (bounds.isSingle()) {
+            List<Entry> bucket = sections.get(ChunkSectionPos.asLong(bounds.minX, bounds.minY, bounds.minZ));
+            if (bucket != null) {
+                for (Entry entry : bucket) {
+                    entry.getCollissionShapes(except, time, context, output);
+                }
+            }
+            return;
+        }
+
+        var visited = new ReferenceOpenHashSet<Entry>();
+        bounds.forEach(section -> {
+            List<Entry> bucket = sections.get(section);
+            if (bucket != null) {
+                for (Entry entry : bucket) {
+                    if (visited.add(entry)) {
+                        entry.getCollissionShapes(except, time, context, output);
+                    }
+                }
+            }
+        });
+    }
+
+    private static boolean isStale(Entry entry, long time) {
+        return entry.entity.isRemoved() || entry.lastUpdate < time - 1;
+    }
+
+    private final class Entry {
+        private final Entity entity;
+        private long lastUpdate;
+
+        @Nullable
+        private ComplexCollidable collidable;
+        @Nullable
+        private Box boundingBox;
+        private int shapesHash;
+        @Nullable
+        private SectionBounds bounds;
+
+        private final List<VoxelShape> shapes = new ArrayList<>();
+        private boolean contextual;
+
+        Entry(Entity entity) {
+            this.entity = entity;
+        }
+
+        void rebuild(ComplexCollidable collidable) {
+            this.collidable = collidable;
+            boundingBox = entity.getBoundingBox();
+            shapesHash = collidable.getCollissionShapesHash();
+            contextual = collidable.hasContextualCollissionShapes();
+            shapes.clear();
+            collidable.getCollissionShapes(ShapeContext.absent(), shapes::add);
+
+            Box extent = null;
+            for (VoxelShape shape : shapes) {
+                if (!shape.isEmpty()) {
+                    extent = extent == null ? shape.getBoundingBox() : extent.union(shape.getBoundingBox());
+                }
+            }
+
+            if (contextual) {
+                shapes.clear();
+                extent = extent == null ? boundingBox : extent.union(boundingBox);
+            }
+
+            SectionBounds newBounds = extent == null ? null : SectionBounds.of(extent.expand(MARGIN));
+            if (!Objects.equals(newBounds, bounds)) {
+                unindex();
+                bounds = newBounds;
+                if (bounds != null) {
+                    bounds.forEach(section -> sections.computeIfAbsent(section, s -> new ArrayList<>()).add(this));
+                }
+            }
+        }
+
+        void unindex() {
+            if (bounds != null) {
+                bounds.forEach(section -> {
+                    List<Entry> bucket = sections.get(section);
+                    if (bucket != null && bucket.remove(this) && bucket.isEmpty()) {
+                        sections.remove(section);
+                    }
+                });
+                bounds = null;
+            }
+        }
+
+        void getCollissionShapes(@Nullable Entity except, long time, ShapeContext context, Consumer<VoxelShape> output) {
+            if (entity == except || collidable == null || isStale(this, time)) {
+                return;
+            }
+            if (contextual) {
+                collidable.getCollissionShapes(context, output);
+            } else {
+                shapes.forEach(output);
+            }
+        }
+    }
+
+    /**
+     * The range of chunk sections, inclusive, covered by a box.
+     */
+    private record SectionBounds(int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+        static SectionBounds of(Box box) {
+            return new SectionBounds(
+                    ChunkSectionPos.getSectionCoord(MathHelper.floor(box.minX)),
+                    ChunkSectionPos.getSectionCoord(MathHelper.floor(box.minY)),
+                    ChunkSectionPos.getSectionCoord(MathHelper.floor(box.minZ)),
+                    ChunkSectionPos.getSectionCoord(MathHelper.floor(box.maxX)),
+                    ChunkSectionPos.getSectionCoord(MathHelper.floor(box.maxY)),
+                    ChunkSectionPos.getSectionCoord(MathHelper.floor(box.maxZ))
+            );
+        }
+
+        boolean isSingle() {
+            return minX == maxX && minY == maxY && minZ == maxZ;
+        }
+
+        void forEach(LongConsumer consumer) {
+            for (int x = minX; x <= maxX; x++) {
+                for (int y = minY; y <= maxY; y++) {
+                    for (int z = minZ; z <= maxZ; z++) {
+                        consumer.accept(ChunkSectionPos.asLong(x, y, z));
+                    }
+                }
+            }
+        }
+    }
+}
@@ -6,9 +6,6 @@ import java.util.function.Consumer;
 
 import org.jetbrains.annotations.Nullable;
 
-import com.minelittlepony.unicopia.ability.magic.Caster;
-import com.minelittlepony.unicopia.ability.magic.SpellPredicate;
-
 import net.minecraft.block.ShapeContext;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.FallingBlockEntity;
@@ -18,6 +15,7 @@ import net.minecraft.util.math.Box;
 import net.minecraft.util.shape.VoxelShape;
 import net.minecraft.util.shape.VoxelShapes;
 import net.minecraft.world.EntityView;
+import net.minecraft.world.World;
 
 public class EntityCollisions {
 
@@ -41,18 +39,15 @@ public class EntityCollisions {
     }
 
     public static List<VoxelShape> getColissonShapes(@Nullable Entity entity, EntityView world, Box box) {
+        if (!(world instanceof World w)) {
+            return List.of();
+        }
+        CollisionRegistry registry = CollisionRegistry.get(w);
+        if (registry.isEmpty()) {
+            return List.of();
+        }
         ShapeContext ctx = entity == null ? ShapeContext.absent() : ShapeContext.of(entity);
-        return collectCollisionBoxes(box, collector -> {
-            world.getOtherEntities(entity, box.expand(50), e -> {
-                Caster.of(e).flatMap(c -> c.getSpellSlot().get(SpellPredicate.IS_DISGUISE)).ifPresent(p -> {
-                    p.getDisguise().getCollissionShapes(ctx, collector);
-                });
-                if (e instanceof ComplexCollidable collidable) {
-                    collidable.getCollissionShapes(ctx, collector);
-                }
-                return false;
-            });
-        });
+        return collectCollisionBoxes(box, collector -> registry.getCollissionShapes(entity, box, ctx, collector));
     }
 
     static List<VoxelShape> collectCollisionBoxes(Box box, Consumer<Consumer<VoxelShape>> generator) {
@@ -68,5 +63,21 @@ public class EntityCollisions {
 
     public interface ComplexCollidable {
         void getCollissionShapes(ShapeContext context, Consumer<VoxelShape> output);
+
+        /**
+         * Whether the shapes produced depend on the context they are requested with.
+         * Shapes that don't are cached by the {@link CollisionRegistry} until the owning entity moves or changes.
+         */
+        default boolean hasContextualCollissionShapes() {
+            return true;
+        }
+
+        /**
+         * A value summarising whatever other than position the non-contextual shapes depend on.
+         * Cached shapes are rebuilt whenever this changes.
+         */
+        default int getCollissionShapesHash() {
+            return 0;
+        }
     }
 }
@@ -32,6 +32,11 @@ public interface MultiBoundingBoxEntity extends ComplexCollidable {
         }
     }
 
+    @Override
+    default boolean hasContextualCollissionShapes() {
+        return false;
+    }
+
     static List<Box> getBoundingBoxes(Entity entity) {
         return entity instanceof MultiBoundingBoxEntity multi ? multi.getBoundingBoxes() : List.of(entity.getBoundingBox());
     }
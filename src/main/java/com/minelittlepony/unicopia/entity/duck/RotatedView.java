@@ -1,28 +1,22 @@
 package com.minelittlepony.unicopia.entity.duck;
 
-import java.util.Stack;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import it.unimi.dsi.fastutil.ints.IntArrayList;
 import net.minecraft.util.math.BlockPos;
 
 public interface RotatedView {
 
-    Stack<Integer> getRotations();
-
-    boolean hasTransform();
+    Rotations getRotations();
 
     void setMirrorEntityStatuses(boolean enable);
 
     default void pushRotation(int y) {
-        getRotations().add(y);
+        getRotations().push(y);
     }
 
     default void popRotation() {
-        Stack<Integer> rotations = getRotations();
-        synchronized (rotations) {
-            if (!rotations.isEmpty()) {
-                rotations.pop();
-            }
-        }
+        getRotations().pop();
     }
 
     default BlockPos applyRotation(BlockPos pos) {
@@ -34,14 +28,74 @@ public interface RotatedView {
     }
 
     default int applyRotation(int y) {
-        Stack<Integer> rotations = getRotations();
-        synchronized (rotations) {
-            if (!hasTransform() || rotations.isEmpty()) {
+        return getRotations().apply(y);
+    }
+
+    /**
+     * Stack of rotations applied to block access within a world.
+     * <p>
+     * Rotations are only visible to the thread that pushed them. While no thread
+     * has one active, applying a rotation is a single volatile read.
+     */
+    final class Rotations {
+        private final AtomicInteger activeRotations = new AtomicInteger();
+        private final ThreadLocal<State> state = ThreadLocal.withInitial(State::new);
+
+        public void push(int y) {
+            state.get().rotations.push(y);
+            activeRotations.incrementAndGet();
+        }
+
+        public void pop() {
+            if (activeRotations.get() == 0) {
+                return;
+            }
+            State state = this.state.get();
+            if (!state.rotations.isEmpty()) {
+                state.rotations.popInt();
+                activeRotations.decrementAndGet();
+                if (state.rotations.isEmpty()) {
+                    state.transformDepth = 0;
+                }
+            }
+        }
+
+        public int apply(int y) {
+            if (activeRotations.get() == 0) {
+                return y;
+            }
+            State state = this.state.get();
+            if (state.transformDepth > 0 || state.rotations.isEmpty()) {
                 return y;
             }
+            return (state.rotations.topInt() * 2) - y;
+        }
 
-            return (rotations.peek() * 2) - y;
+        /**
+         * Suspends the current thread's rotation until a matching call to {@link #endTransform()}.
+         * Used to prevent positions from being rotated twice when an already rotated call passes through nested block access.
+         */
+        public void beginTransform() {
+            if (activeRotations.get() != 0) {
+                State state = this.state.get();
+                if (!state.rotations.isEmpty()) {
+                    state.transformDepth++;
+                }
+            }
         }
-    }
 
+        public void endTransform() {
+            if (activeRotations.get() != 0) {
+                State state = this.state.get();
+                if (state.transformDepth > 0) {
+                    state.transformDepth--;
+                }
+            }
+        }
+
+        private static final class State {
+            private final IntArrayList rotations = new IntArrayList();
+            private int transformDepth;
+        }
+    }
 }
@@ -49,6 +49,7 @@ import com.minelittlepony.unicopia.USounds;
 import com.minelittlepony.unicopia.advancement.UCriteria;
 import com.minelittlepony.unicopia.entity.Living;
 import com.minelittlepony.unicopia.entity.MagicImmune;
+import com.minelittlepony.unicopia.entity.collision.CollisionRegistry;
 import com.minelittlepony.unicopia.entity.collision.EntityCollisions;
 import com.minelittlepony.unicopia.entity.collision.MultiBoundingBoxEntity;
 import com.minelittlepony.unicopia.entity.collision.MultiBox;
@@ -299,6 +300,14 @@ public class AirBalloonEntity extends MobEntity implements EntityCollisions.Comp
         prevZDelta = zDelta;
         xDelta = getX() - prevX;
         zDelta = getZ() - prevZ;
+
+        CollisionRegistry.get(getWorld()).update(this, this);
+    }
+
+    @Override
+    public void onRemoved() {
+        super.onRemoved();
+        CollisionRegistry.get(getWorld()).remove(this);
     }
 
     @Override
@@ -603,6 +612,15 @@ public class AirBalloonEntity extends MobEntity implements EntityCollisions.Comp
         return List.of(interior.withMaxY(balloon.minY).withMinY(interior.maxY));
     }
 
+    @Override
+    public int getCollissionShapesHash() {
+        int hash = getDesign().ordinal();
+        hash = 31 * hash + getInflation();
+        hash = 31 * hash + dataTracker.get(BASKET_TYPE).hashCode();
+        hash = 31 * hash + (hasBurner() ? 1 : 0);
+        return 31 * hash + getHorizontalFacing().ordinal();
+    }
+
     @Override
     public List<Box> getBoundingBoxes() {
         List<Box> boxes = new ArrayList<>();
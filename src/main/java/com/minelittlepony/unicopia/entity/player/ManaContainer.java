@@ -12,6 +12,15 @@ import net.minecraft.nbt.NbtCompound;
 import net.minecraft.util.math.MathHelper;
 
 class ManaContainer implements MagicReserves, Tickable, NbtSerialisable, Copyable<ManaContainer> {
+    /**
+     * Fraction of a bar's maximum it has to move by before the new value is sent to the client.
+     */
+    private static final float SYNC_PRECISION = 1F / 500F;
+    /**
+     * Number of ticks after which a bar is sent regardless of how little it changed.
+     */
+    private static final int RESYNC_INTERVAL = 20;
+
     private final Pony pony;
 
     private final Map<String, BarInst> bars = new HashMap<>();
@@ -85,7 +94,8 @@ class ManaContainer implements MagicReserves, Tickable, NbtSerialisable, Copyabl
 
     @Override
     public void tick() {
-        bars.values().forEach(BarInst::tick);
+        boolean resync = pony.asEntity().age % RESYNC_INTERVAL == 0;
+        bars.values().forEach(bar -> bar.tick(resync));
 
         exertion.addPercent(-10);
 
@@ -150,10 +160,19 @@ class ManaContainer implements MagicReserves, Tickable, NbtSerialisable, Copyabl
         }
     }
 
+    /**
+     * A bar whose value is computed on both sides.
+     * <p>
+     * The client runs the same decay and regeneration as the server, so the server only sends its value
+     * once it has drifted by a noticeable amount (or periodically) and the client adopts whatever it receives.
+     */
     class BarInst implements Bar, NbtSerialisable {
         private final DataTracker.Entry<Float> marker;
         private final float max;
 
+        private float value;
+        private float syncedValue;
+
         private float trailingValue;
         private float prevTrailingValue;
         private float prevValue;
@@ -163,12 +182,21 @@ class ManaContainer implements MagicReserves, Tickable, NbtSerialisable, Copyabl
             this.trailingValue = initial;
             this.prevTrailingValue = initial;
             this.prevValue = initial;
-            this.marker = tracker.startTracking(TrackableDataType.FLOAT, max * trailingValue);
+            this.value = max * trailingValue;
+            this.syncedValue = value;
+            this.marker = tracker.startTracking(TrackableDataType.FLOAT, value);
         }
 
         @Override
         public float get() {
-            return applyLimits(marker.get());
+            if (pony.isClient()) {
+                float received = marker.get();
+                if (received != syncedValue) {
+                    syncedValue = received;
+                    value = received;
+                }
+            }
+            return applyLimits(value);
         }
 
         @Override
@@ -187,7 +215,20 @@ class ManaContainer implements MagicReserves, Tickable, NbtSerialisable, Copyabl
         }
 
         private void load(float value) {
-            marker.set(value);
+            this.value = value;
+            sync(false);
+        }
+
+        private void sync(boolean force) {
+            if (pony.isClient() || value == syncedValue) {
+                return;
+            }
+            if (force
+                    || value <= 0 || value >= getMax()
+                    || Math.abs(value - syncedValue) >= getMax() * SYNC_PRECISION) {
+                syncedValue = value;
+                marker.set(value);
+            }
         }
 
         protected float getInitial(float initial) {
@@ -200,7 +241,8 @@ class ManaContainer implements MagicReserves, Tickable, NbtSerialisable, Copyabl
 
         void resetTo(float value) {
             trailingValue = MathHelper.clamp(value / getMax(), 0, 1);
-            load(value);
+            this.value = value;
+            sync(true);
         }
 
         @Override
@@ -208,7 +250,10 @@ class ManaContainer implements MagicReserves, Tickable, NbtSerialisable, Copyabl
             return max;
         }
 
-        void tick() {
+        void tick(boolean resync) {
+            if (resync) {
+                sync(true);
+            }
             prevValue = get();
             prevTrailingValue = trailingValue;
 
@@ -235,7 +280,8 @@ class ManaContainer implements MagicReserves, Tickable, NbtSerialisable, Copyabl
         @Override
         public void fromNBT(NbtCompound compound) {
             trailingValue = compound.getFloat("shadow");
-            load(compound.getFloat("value"));
+            value = compound.getFloat("value");
+            sync(true);
         }
     }
 }
@@ -1,8 +1,10 @@
 package com.minelittlepony.unicopia.mixin;
 
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.Function;
 
+import org.jetbrains.annotations.Nullable;
 import org.spongepowered.asm.mixin.*;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
@@ -57,12 +59,22 @@ abstract class MixinStateManagerBuilder<O, S extends State<O, S>> implements Wat
 abstract class MixinBlockState extends State<Block, BlockState> {
     MixinBlockState() {super(null, null, null);}
 
+    @Unique
+    @Nullable
+    private Optional<FluidState> fluidStateOverride;
+
     @Shadow
     protected abstract BlockState asBlockState();
 
     @Inject(method = "getFluidState", at = @At("HEAD"), cancellable = true)
     private void onGetFluidState(CallbackInfoReturnable<FluidState> info) {
-        WaterLoggingManager.<Block, BlockState>getInstance().getFluidState(owner, asBlockState(), info);
+        Optional<FluidState> override = fluidStateOverride;
+        if (override == null) {
+            fluidStateOverride = override = WaterLoggingManager.<Block, BlockState>getInstance().getFluidStateOverride(owner, asBlockState());
+        }
+        if (override.isPresent()) {
+            info.setReturnValue(override.get());
+        }
     }
 
     @Inject(method = "getStateForNeighborUpdate", at = @At("RETURN"), cancellable = true)
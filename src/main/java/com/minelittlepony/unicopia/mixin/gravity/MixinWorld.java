@@ -1,6 +1,5 @@
 package com.minelittlepony.unicopia.mixin.gravity;
 
-import java.util.Stack;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
@@ -16,28 +15,22 @@ import net.minecraft.world.WorldAccess;
 @Mixin(World.class)
 abstract class MixinWorld implements WorldAccess, RotatedView {
 
-    private int recurseCount = 0;
-    private final Stack<Integer> rotations = new Stack<>();
+    private final Rotations rotations = new Rotations();
 
     @Override
-    public Stack<Integer> getRotations() {
+    public Rotations getRotations() {
         return rotations;
     }
 
-    @Override
-    public boolean hasTransform() {
-        return recurseCount <= 0;
-    }
-
     @ModifyVariable(method = "setBlockState(Lnet/minecraft/util/math/BlockPos;Lnet/minecraft/block/BlockState;II)Z", at = @At("HEAD"))
     private BlockPos modifyBlockPos(BlockPos pos) {
         pos = applyRotation(pos);
-        recurseCount = Math.max(0, recurseCount) + 1;
+        rotations.beginTransform();
         return pos;
     }
 
     @Inject(method = "setBlockState(Lnet/minecraft/util/math/BlockPos;Lnet/minecraft/block/BlockState;II)Z", at = @At("RETURN"))
     public void onSetBlockState(BlockPos pos, BlockState state, int flags, int maxUpdateDepth, CallbackInfoReturnable<Boolean> info) {
-        recurseCount = Math.max(0, recurseCount - 1);
+        rotations.endTransform();
     }
 }
@@ -2,28 +2,46 @@ package com.minelittlepony.unicopia.network;
 
 import com.sollace.fabwork.api.packets.Packet;
 
-import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
-import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ByteMap;
+import it.unimi.dsi.fastutil.longs.Long2ByteMaps;
+import it.unimi.dsi.fastutil.longs.Long2ByteOpenHashMap;
 import net.minecraft.network.PacketByteBuf;
+import net.minecraft.util.math.MathHelper;
 
 /**
  * Sent by the server to update block destruction progress on the client.
+ * <p>
+ * Only contains the positions that changed, or every position in a chunk when a player starts watching it.
+ * Progress is sent in tenths of a stage.
  */
-public record MsgBlockDestruction (Long2ObjectMap<Float> destructions) implements Packet {
+public record MsgBlockDestruction (Long2ByteMap destructions) implements Packet {
+    private static final float PRECISION = 10;
+
     MsgBlockDestruction(PacketByteBuf buffer) {
-        this(new Long2ObjectOpenHashMap<>());
-        int size = buffer.readInt();
+        this(new Long2ByteOpenHashMap());
+        int size = buffer.readVarInt();
         for (int i = 0; i < size; i++) {
-            destructions.put(buffer.readLong(), (Float)buffer.readFloat());
+            destructions.put(buffer.readLong(), buffer.readByte());
+        }
+    }
+
+    public static byte pack(float amount) {
+        if (amount <= 0) {
+            return (byte)MathHelper.floor(amount * PRECISION);
         }
+        return (byte)Math.max(1, MathHelper.floor(amount * PRECISION));
+    }
+
+    public static float unpack(byte amount) {
+        return amount / PRECISION;
     }
 
     @Override
     public void toBuffer(PacketByteBuf buffer) {
-        buffer.writeInt(destructions.size());
-        destructions.forEach((p, i) -> {
-            buffer.writeLong(p);
-            buffer.writeFloat(i);
+        buffer.writeVarInt(destructions.size());
+        Long2ByteMaps.fastForEach(destructions, entry -> {
+            buffer.writeLong(entry.getLongKey());
+            buffer.writeByte(entry.getByteValue());
         });
     }
 }
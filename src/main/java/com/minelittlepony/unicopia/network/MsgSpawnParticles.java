@@ -0,0 +1,74 @@
+package com.minelittlepony.unicopia.network;
+
+import java.util.List;
+
+import com.sollace.fabwork.api.packets.Packet;
+
+import it.unimi.dsi.fastutil.floats.FloatArrayList;
+import it.unimi.dsi.fastutil.floats.FloatList;
+import net.minecraft.network.PacketByteBuf;
+import net.minecraft.particle.ParticleEffect;
+import net.minecraft.particle.ParticleType;
+import net.minecraft.registry.Registries;
+
+/**
+ * Sent by the server with all of the particles spawned near a player over a single tick.
+ * <p>
+ * Particles are grouped by effect type and parameters, which are only written once per group, and positioned relative to the group's origin.
+ */
+public record MsgSpawnParticles (List<Batch> batches) implements Packet {
+    MsgSpawnParticles(PacketByteBuf buffer) {
+        this(buffer.readList(Batch::new));
+    }
+
+    @Override
+    public void toBuffer(PacketByteBuf buffer) {
+        buffer.writeCollection(batches, (buf, batch) -> batch.write(buf));
+    }
+
+    /**
+     * A group of particles with equal effects.
+     *
+     * @param values For each particle, its offset from the origin followed by its velocity.
+     */
+    public record Batch (ParticleEffect effect, double x, double y, double z, FloatList values) {
+        public static final int STRIDE = 6;
+
+        Batch(PacketByteBuf buffer) {
+            this(readEffect(buffer), buffer.readDouble(), buffer.readDouble(), buffer.readDouble(), readValues(buffer));
+        }
+
+        public int size() {
+            return values.size() / STRIDE;
+        }
+
+        public void write(PacketByteBuf buffer) {
+            buffer.writeRegistryValue(Registries.PARTICLE_TYPE, effect.getType());
+            effect.write(buffer);
+            buffer.writeDouble(x);
+            buffer.writeDouble(y);
+            buffer.writeDouble(z);
+            buffer.writeVarInt(size());
+            for (int i = 0; i < values.size(); i++) {
+                buffer.writeFloat(values.getFloat(i));
+            }
+        }
+
+        private static ParticleEffect readEffect(PacketByteBuf buffer) {
+            return readEffect(buffer.readRegistryValue(Registries.PARTICLE_TYPE), buffer);
+        }
+
+        private static <T extends ParticleEffect> T readEffect(ParticleType<T> type, PacketByteBuf buffer) {
+            return type.getParametersFactory().read(type, buffer);
+        }
+
+        private static FloatList readValues(PacketByteBuf buffer) {
+            int count = buffer.readVarInt() * STRIDE;
+            FloatList values = new FloatArrayList(count);
+            for (int i = 0; i < count; i++) {
+                values.add(buffer.readFloat());
+            }
+            return values;
+        }
+    }
+}
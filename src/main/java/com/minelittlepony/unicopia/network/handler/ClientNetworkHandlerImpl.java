@@ -19,6 +19,8 @@ import com.minelittlepony.unicopia.entity.player.Pony;
 import com.minelittlepony.unicopia.network.*;
 import com.minelittlepony.unicopia.network.MsgCasterLookRequest.Reply;
 
+import it.unimi.dsi.fastutil.floats.FloatList;
+import it.unimi.dsi.fastutil.longs.Long2ByteMaps;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.player.PlayerEntity;
@@ -28,6 +30,7 @@ import net.minecraft.particle.ParticleTypes;
 import net.minecraft.sound.SoundEvents;
 import net.minecraft.util.Identifier;
 import net.minecraft.util.math.Vec3d;
+import net.minecraft.util.math.random.Random;
 
 public class ClientNetworkHandlerImpl {
     private final MinecraftClient client = MinecraftClient.getInstance();
@@ -44,6 +47,7 @@ public class ClientNetworkHandlerImpl {
         Channel.SERVER_REQUEST_PLAYER_LOOK.receiver().addPersistentListener(this::handleCasterLookRequest);
         Channel.SERVER_TRINKET_BROKEN.receiver().addPersistentListener(this::handleTrinketBroken);
         Channel.CONFIGURATION_CHANGE.receiver().addPersistentListener(this::handleConfigurationChange);
+        Channel.SERVER_SPAWN_PARTICLES.receiver().addPersistentListener(this::handleSpawnParticles);
     }
 
     private void handleTribeScreen(PlayerEntity sender, MsgTribeSelect packet) {
@@ -53,11 +57,33 @@ public class ClientNetworkHandlerImpl {
     private void handleBlockDestruction(PlayerEntity sender, MsgBlockDestruction packet) {
         ClientBlockDestructionManager destr = ((ClientBlockDestructionManager.Source)client.worldRenderer).getDestructionManager();
 
-        packet.destructions().forEach((i, d) -> {
-            destr.setBlockDestruction(i, d);
+        Long2ByteMaps.fastForEach(packet.destructions(), entry -> {
+            destr.setBlockDestruction(entry.getLongKey(), MsgBlockDestruction.unpack(entry.getByteValue()));
         });
     }
 
+    private void handleSpawnParticles(PlayerEntity sender, MsgSpawnParticles packet) {
+        Random rng = client.world.random;
+        for (MsgSpawnParticles.Batch batch : packet.batches()) {
+            FloatList values = batch.values();
+            for (int i = 0; i < values.size(); i += MsgSpawnParticles.Batch.STRIDE) {
+                double vX = values.getFloat(i + 3);
+                double vY = values.getFloat(i + 4);
+                double vZ = values.getFloat(i + 5);
+                double speed = Math.sqrt(vX * vX + vY * vY + vZ * vZ);
+                // spread and speed the same way vanilla does for a particle packet with a count of one
+                client.world.addParticle(batch.effect(), false,
+                        batch.x() + values.getFloat(i) + rng.nextGaussian() * vX,
+                        batch.y() + values.getFloat(i + 1) + rng.nextGaussian() * vY,
+                        batch.z() + values.getFloat(i + 2) + rng.nextGaussian() * vZ,
+                        rng.nextGaussian() * speed,
+                        rng.nextGaussian() * speed,
+                        rng.nextGaussian() * speed
+                );
+            }
+        }
+    }
+
     private void handleCancelAbility(PlayerEntity sender, MsgCancelPlayerAbility packet) {
         client.player.playSound(USounds.GUI_ABILITY_FAIL, 1, 1);
         Pony.of(client.player).getAbilities().getStats().forEach(s -> s.setCooldown(0));
@@ -1,20 +1,19 @@
 package com.minelittlepony.unicopia.network.track;
 
-import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.BitSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
-import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
-import it.unimi.dsi.fastutil.ints.IntSet;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMaps;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ObjectArrayList;
 import net.minecraft.network.PacketByteBuf;
 
 public class DataTracker {
     private final List<Pair<?>> codecs = new ObjectArrayList<>();
-    private IntSet dirtyIndices = new IntOpenHashSet();
+    private final BitSet dirtyIndices = new BitSet();
     private List<TrackableObject<?>> persistentObjects = new ObjectArrayList<>();
 
     private boolean initial = true;
@@ -50,7 +49,7 @@ public class DataTracker {
         if (!Objects.equals(pair.value, value)) {
             synchronized (this) {
                 pair.value = value;
-                dirtyIndices.add(entry.id());
+                dirtyIndices.set(entry.id());
             }
         }
     }
@@ -71,7 +70,7 @@ public class DataTracker {
 
     synchronized Optional<MsgTrackedValues.TrackerEntries> getInitialPairs() {
         initial = false;
-        dirtyIndices = new IntOpenHashSet();
+        dirtyIndices.clear();
         return Optional.of(new MsgTrackedValues.TrackerEntries(id, true, codecs, writePersistentObjects(true)));
     }
 
@@ -80,30 +79,33 @@ public class DataTracker {
             return getInitialPairs();
         }
 
-        Map<Integer, PacketByteBuf> updates = writePersistentObjects(false);
+        Int2ObjectMap<PacketByteBuf> updates = writePersistentObjects(false);
 
         if (dirtyIndices.isEmpty() && updates.isEmpty()) {
             return Optional.empty();
         }
 
-        IntSet toSend = dirtyIndices;
-        dirtyIndices = new IntOpenHashSet();
-        List<Pair<?>> pairs = new ArrayList<>();
-        for (int i : toSend) {
+        List<Pair<?>> pairs = new ObjectArrayList<>(dirtyIndices.cardinality());
+        for (int i = dirtyIndices.nextSetBit(0); i >= 0; i = dirtyIndices.nextSetBit(i + 1)) {
             pairs.add(codecs.get(i));
         }
+        dirtyIndices.clear();
         return Optional.of(new MsgTrackedValues.TrackerEntries(id, false, pairs, updates));
     }
 
-    private Map<Integer, PacketByteBuf> writePersistentObjects(boolean initial) {
-        Map<Integer, PacketByteBuf> updates = new HashMap<>();
+    private Int2ObjectMap<PacketByteBuf> writePersistentObjects(boolean initial) {
+        Int2ObjectMap<PacketByteBuf> updates = null;
         for (int i = 0; i < persistentObjects.size(); i++) {
             TrackableObject<?> o = persistentObjects.get(i);
-            TrackableObject.Status status = initial ? TrackableObject.Status.NEW : o.getStatus();
-            int id = i;
-            o.write(status).ifPresent(data -> updates.put(id, data));
+            Optional<PacketByteBuf> data = o.write(initial ? TrackableObject.Status.NEW : o.getStatus());
+            if (data.isPresent()) {
+                if (updates == null) {
+                    updates = new Int2ObjectOpenHashMap<>();
+                }
+                updates.put(i, data.get());
+            }
         }
-        return updates;
+        return updates == null ? Int2ObjectMaps.emptyMap() : updates;
     }
 
     public synchronized void load(MsgTrackedValues.TrackerEntries values) {
@@ -120,12 +122,12 @@ public class DataTracker {
             }
         }
 
-        for (var entry : values.objects().entrySet()) {
-            TrackableObject<?> o = persistentObjects.get(entry.getKey());
-            if (o != null) {
-                o.read(entry.getValue());
+        Int2ObjectMaps.fastForEach(values.objects(), entry -> {
+            int index = entry.getIntKey();
+            if (index >= 0 && index < persistentObjects.size()) {
+                persistentObjects.get(index).read(entry.getValue());
             }
-        }
+        });
     }
 
     public record Entry<T>(DataTracker tracker, int id) {
@@ -150,13 +152,13 @@ public class DataTracker {
         }
 
         public Pair(PacketByteBuf buffer) {
-            this.id = buffer.readInt();
+            this.id = buffer.readVarInt();
             this.type = TrackableDataType.of(buffer);
             this.value = type.read(buffer);
         }
 
         public void write(PacketByteBuf buffer) {
-            buffer.writeInt(id);
+            buffer.writeVarInt(id);
             type.write(buffer, value);
         }
     }
@@ -1,7 +1,6 @@
 package com.minelittlepony.unicopia.network.track;
 
 import java.util.List;
-import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
@@ -43,41 +42,54 @@ public class DataTrackerManager {
     public synchronized DataTracker checkoutTracker() {
         DataTracker tracker = new DataTracker(trackers.size());
         trackers.add(tracker);
-        packetEmitters.add((sender, initial) -> {
-            var update = initial ? tracker.getInitialPairs() : tracker.getDirtyPairs();
-            if (update.isPresent()) {
-                sender.accept(Channel.SERVER_TRACKED_ENTITY_DATA.toPacket(new MsgTrackedValues(
-                        entity.getId(),
-                        Optional.empty(),
-                        update
-                )));
-            }
-        });
         return tracker;
     }
 
     public synchronized <T extends TrackableObject<T>> ObjectTracker<T> checkoutTracker(Supplier<T> objFunction) {
         ObjectTracker<T> tracker = new ObjectTracker<>(objectTrackers.size(), objFunction);
         objectTrackers.add(tracker);
-        packetEmitters.add((sender, initial) -> {
-            var update = initial ? tracker.getInitialPairs() : tracker.getDirtyPairs();
-            if (update.isPresent()) {
-                sender.accept(Channel.SERVER_TRACKED_ENTITY_DATA.toPacket(new MsgTrackedValues(
-                        entity.getId(),
-                        update,
-                        Optional.empty()
-                )));
-            }
-        });
         return tracker;
     }
 
     public void tick(Consumer<Packet<?>> sender) {
         synchronized (this) {
-            for (var emitter : packetEmitters) {
-                emitter.sendPackets(sender, false);
+            sendPackets(sender, false);
+        }
+    }
+
+    /**
+     * Sends the changes from all of this entity's trackers as a single packet, followed by those of any additional packet emitters.
+     */
+    private void sendPackets(Consumer<Packet<?>> sender, boolean initial) {
+        List<MsgTrackedValues.TrackerObjects> updatedObjects = List.of();
+        for (var tracker : objectTrackers) {
+            var update = initial ? tracker.getInitialPairs() : tracker.getDirtyPairs();
+            if (update.isPresent()) {
+                if (updatedObjects.isEmpty()) {
+                    updatedObjects = new ObjectArrayList<>(objectTrackers.size());
+                }
+                updatedObjects.add(update.get());
             }
         }
+
+        List<MsgTrackedValues.TrackerEntries> updatedTrackers = List.of();
+        for (var tracker : trackers) {
+            var update = initial ? tracker.getInitialPairs() : tracker.getDirtyPairs();
+            if (update.isPresent()) {
+                if (updatedTrackers.isEmpty()) {
+                    updatedTrackers = new ObjectArrayList<>(trackers.size());
+                }
+                updatedTrackers.add(update.get());
+            }
+        }
+
+        if (!updatedObjects.isEmpty() || !updatedTrackers.isEmpty()) {
+            sender.accept(Channel.SERVER_TRACKED_ENTITY_DATA.toPacket(new MsgTrackedValues(entity.getId(), updatedObjects, updatedTrackers)));
+        }
+
+        for (var emitter : packetEmitters) {
+            emitter.sendPackets(sender, initial);
+        }
     }
 
     @SuppressWarnings({ "unchecked", "rawtypes" })
@@ -93,25 +105,21 @@ public class DataTrackerManager {
     @SuppressWarnings({ "rawtypes", "unchecked" })
     public synchronized void sendInitial(ServerPlayerEntity player, Consumer<Packet<ClientPlayPacketListener>> sender) {
         synchronized (this) {
-            for (var emitter : packetEmitters) {
-                emitter.sendPackets((Consumer)sender, true);
-            }
+            sendPackets((Consumer)sender, true);
         }
     }
 
     synchronized void load(MsgTrackedValues packet) {
-        packet.updatedTrackers().ifPresent(update -> {
-            DataTracker tracker = trackers.get(update.id());
-            if (tracker != null) {
-                tracker.load(update);
+        for (var update : packet.updatedObjects()) {
+            if (update.id() >= 0 && update.id() < objectTrackers.size()) {
+                objectTrackers.get(update.id()).load(update);
             }
-        });
-        packet.updatedObjects().ifPresent(update -> {
-            ObjectTracker<?> tracker = objectTrackers.get(update.id());
-            if (tracker != null) {
-                tracker.load(update);
+        }
+        for (var update : packet.updatedTrackers()) {
+            if (update.id() >= 0 && update.id() < trackers.size()) {
+                trackers.get(update.id()).load(update);
             }
-        });
+        }
     }
 
     public interface PacketEmitter {
@@ -1,39 +1,43 @@
 package com.minelittlepony.unicopia.network.track;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 
 import com.minelittlepony.unicopia.util.serialization.PacketCodec;
 import com.sollace.fabwork.api.packets.HandledPacket;
 
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectLinkedOpenHashMap;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.network.PacketByteBuf;
 
+/**
+ * Carries every tracker update for a single entity in one tick.
+ */
 public record MsgTrackedValues(
         int owner,
-        Optional<TrackerObjects> updatedObjects,
-        Optional<TrackerEntries> updatedTrackers
+        List<TrackerObjects> updatedObjects,
+        List<TrackerEntries> updatedTrackers
 ) implements HandledPacket<PlayerEntity> {
     public MsgTrackedValues(PacketByteBuf buffer) {
         this(
             buffer.readInt(),
-            buffer.readOptional(TrackerObjects::new),
-            buffer.readOptional(TrackerEntries::new)
+            buffer.readList(TrackerObjects::new),
+            buffer.readList(TrackerEntries::new)
         );
     }
 
     @Override
     public void toBuffer(PacketByteBuf buffer) {
         buffer.writeInt(owner);
-        buffer.writeOptional(updatedObjects, (buf, obj) -> obj.write(buf));
-        buffer.writeOptional(updatedTrackers, (buf, tracker) -> tracker.write(buf));
+        buffer.writeCollection(updatedObjects, (buf, obj) -> obj.write(buf));
+        buffer.writeCollection(updatedTrackers, (buf, tracker) -> tracker.write(buf));
     }
 
     @Override
@@ -47,35 +51,35 @@ public record MsgTrackedValues(
     public record TrackerObjects(int id, Set<UUID> removedValues, Map<UUID, PacketByteBuf> values) {
         public TrackerObjects(PacketByteBuf buffer) {
             this(
-                buffer.readInt(),
+                buffer.readVarInt(),
                 buffer.readCollection(HashSet::new, PacketByteBuf::readUuid),
-                buffer.readMap(HashMap::new, PacketByteBuf::readUuid, PacketCodec.RAW_BYTES::read)
+                buffer.readMap(Object2ObjectLinkedOpenHashMap::new, PacketByteBuf::readUuid, PacketCodec.RAW_BYTES::read)
             );
 
         }
 
         public void write(PacketByteBuf buffer) {
-            buffer.writeInt(id);
+            buffer.writeVarInt(id);
             buffer.writeCollection(removedValues, PacketByteBuf::writeUuid);
             buffer.writeMap(values, PacketByteBuf::writeUuid, PacketCodec.RAW_BYTES::write);
         }
     }
 
-    public record TrackerEntries(int id, boolean wipe, List<DataTracker.Pair<?>> values, Map<Integer, PacketByteBuf> objects) {
+    public record TrackerEntries(int id, boolean wipe, List<DataTracker.Pair<?>> values, Int2ObjectMap<PacketByteBuf> objects) {
         public TrackerEntries(PacketByteBuf buffer) {
             this(
-                buffer.readInt(),
+                buffer.readVarInt(),
                 buffer.readBoolean(),
                 buffer.readCollection(ArrayList::new, DataTracker.Pair::new),
-                buffer.readMap(PacketByteBuf::readInt, PacketCodec.RAW_BYTES::read)
+                buffer.readMap(Int2ObjectOpenHashMap::new, PacketByteBuf::readVarInt, PacketCodec.RAW_BYTES::read)
             );
         }
 
         public void write(PacketByteBuf buffer) {
-            buffer.writeInt(id);
+            buffer.writeVarInt(id);
             buffer.writeBoolean(wipe);
             buffer.writeCollection(values, (buf, pair) -> pair.write(buf));
-            buffer.writeMap(objects, PacketByteBuf::writeInt, PacketCodec.RAW_BYTES::write);
+            buffer.writeMap(objects, PacketByteBuf::writeVarInt, PacketCodec.RAW_BYTES::write);
         }
     }
 }
@@ -1,8 +1,7 @@
 package com.minelittlepony.unicopia.network.track;
 
 import java.util.Collection;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.Collections;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -12,11 +11,16 @@ import java.util.function.Supplier;
 import org.jetbrains.annotations.Nullable;
 
 import com.minelittlepony.unicopia.network.track.TrackableObject.Status;
-import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import net.minecraft.network.PacketByteBuf;
 
 public class ObjectTracker<T extends TrackableObject<T>> {
-    private final Map<UUID, T> trackedObjects = new Object2ObjectOpenHashMap<>();
+    private final Map<UUID, T> trackedObjects = new Object2ObjectLinkedOpenHashMap<>();
+    /**
+     * Read-only snapshot of the tracked objects, in the order they were added.
+     * Only replaced when objects are added or removed so ticks where nothing changes don't copy anything.
+     */
     private volatile Map<UUID, T> quickAccess = Map.of();
 
     private final int id;
@@ -70,8 +74,13 @@ public class ObjectTracker<T extends TrackableObject<T>> {
     }
 
     public synchronized void add(UUID id, T obj) {
-        trackedObjects.put(id, obj);
-        quickAccess = Map.copyOf(trackedObjects);
+        if (trackedObjects.put(id, obj) != obj) {
+            updateQuickAccess();
+        }
+    }
+
+    private void updateQuickAccess() {
+        quickAccess = trackedObjects.isEmpty() ? Map.of() : Collections.unmodifiableMap(new Object2ObjectLinkedOpenHashMap<>(trackedObjects));
     }
 
     synchronized void copyTo(ObjectTracker<T> destination) {
@@ -80,7 +89,7 @@ public class ObjectTracker<T extends TrackableObject<T>> {
             entry.getValue().copyTo(copy);
             destination.trackedObjects.put(entry.getKey(), copy);
         }
-        destination.quickAccess = Map.copyOf(destination.trackedObjects);
+        destination.updateQuickAccess();
     }
 
     synchronized Optional<MsgTrackedValues.TrackerObjects> getInitialPairs() {
@@ -88,10 +97,10 @@ public class ObjectTracker<T extends TrackableObject<T>> {
             return Optional.empty();
         }
 
-        Map<UUID, PacketByteBuf> updates = new HashMap<>();
-        quickAccess.entrySet().forEach(object -> {
-            object.getValue().write(Status.NEW).ifPresent(data -> {
-                updates.put(object.getKey(), data);
+        Map<UUID, PacketByteBuf> updates = new Object2ObjectLinkedOpenHashMap<>(trackedObjects.size());
+        trackedObjects.forEach((id, object) -> {
+            object.write(Status.NEW).ifPresent(data -> {
+                updates.put(id, data);
             });
         });
 
@@ -99,53 +108,72 @@ public class ObjectTracker<T extends TrackableObject<T>> {
     }
 
     synchronized Optional<MsgTrackedValues.TrackerObjects> getDirtyPairs() {
-        if (!trackedObjects.isEmpty()) {
-            Map<UUID, PacketByteBuf> updates = new HashMap<>();
-            Set<UUID> removedTrackableObjects = new HashSet<>();
-            trackedObjects.entrySet().removeIf(object -> {
-                TrackableObject.Status status = object.getValue().getStatus();
-                if (status == TrackableObject.Status.REMOVED) {
-                    removedTrackableObjects.add(object.getKey());
-                    return true;
-                }
-                object.getValue().write(status).ifPresent(data -> {
-                    updates.put(object.getKey(), data);
-                });
-                return false;
-            });
-            quickAccess = Map.copyOf(trackedObjects);
+        if (trackedObjects.isEmpty()) {
+            return Optional.empty();
+        }
 
-            if (!updates.isEmpty() || !removedTrackableObjects.isEmpty()) {
-                return Optional.of(new MsgTrackedValues.TrackerObjects(id, removedTrackableObjects, updates));
+        Map<UUID, PacketByteBuf> updates = Map.of();
+        Set<UUID> removedTrackableObjects = Set.of();
+        var iter = trackedObjects.entrySet().iterator();
+        while (iter.hasNext()) {
+            var object = iter.next();
+            TrackableObject.Status status = object.getValue().getStatus();
+            if (status == TrackableObject.Status.REMOVED) {
+                if (removedTrackableObjects.isEmpty()) {
+                    removedTrackableObjects = new ObjectOpenHashSet<>();
+                }
+                removedTrackableObjects.add(object.getKey());
+                iter.remove();
+                continue;
+            }
+            Optional<PacketByteBuf> data = object.getValue().write(status);
+            if (data.isPresent()) {
+                if (updates.isEmpty()) {
+                    updates = new Object2ObjectLinkedOpenHashMap<>();
+                }
+                updates.put(object.getKey(), data.get());
             }
         }
 
+        if (!removedTrackableObjects.isEmpty()) {
+            updateQuickAccess();
+        }
+
+        if (!updates.isEmpty() || !removedTrackableObjects.isEmpty()) {
+            return Optional.of(new MsgTrackedValues.TrackerObjects(id, removedTrackableObjects, updates));
+        }
+
         return Optional.empty();
     }
 
     synchronized void load(MsgTrackedValues.TrackerObjects objects) {
-        objects.removedValues().forEach(removedId -> {
+        boolean changed = false;
+        for (UUID removedId : objects.removedValues()) {
             T o = trackedObjects.remove(removedId);
             if (o != null) {
                 o.discard(true);
+                changed = true;
             }
-        });
-        objects.values().forEach((id, data) -> {
-            T o = trackedObjects.get(id);
+        }
+        for (var entry : objects.values().entrySet()) {
+            T o = trackedObjects.get(entry.getKey());
             if (o == null) {
                 o = constructor.get();
-                trackedObjects.put(id, o);
+                trackedObjects.put(entry.getKey(), o);
+                changed = true;
             }
-            o.read(data);
-        });
-        quickAccess = Map.copyOf(trackedObjects);
+            o.read(entry.getValue());
+        }
+        if (changed) {
+            updateQuickAccess();
+        }
     }
 
     public void load(Map<UUID, T> values) {
         synchronized (this) {
             trackedObjects.clear();
             trackedObjects.putAll(values);
-            quickAccess = Map.copyOf(trackedObjects);
+            updateQuickAccess();
         }
     }
 }
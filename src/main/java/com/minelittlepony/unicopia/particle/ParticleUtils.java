@@ -1,5 +1,6 @@
 package com.minelittlepony.unicopia.particle;
 
+import com.minelittlepony.unicopia.server.world.ParticleBatcher;
 import com.minelittlepony.unicopia.util.shape.*;
 
 import net.minecraft.entity.Entity;
@@ -28,7 +29,9 @@ public interface ParticleUtils {
     }
 
     static void spawnParticles(World world, PointGenerator points, ParticleEffect effect, int count) {
-        points.randomPoints(count, world.random).forEach(point -> spawnParticle(world, effect, point, Vec3d.ZERO));
+        for (int i = 0; i < count; i++) {
+            spawnParticle(world, effect, points.computePoint(world.random), Vec3d.ZERO);
+        }
     }
 
     static void spawnParticle(World world, ParticleEffect effect, Vec3d pos, Vec3d vel) {
@@ -37,9 +40,7 @@ public interface ParticleUtils {
 
     static void spawnParticle(World world, ParticleEffect effect, double x, double y, double z, double vX, double vY, double vZ) {
         if (world instanceof ServerWorld sw) {
-            Vec3d vel = new Vec3d(vX, vY, vZ);
-
-            sw.spawnParticles(effect, x, y, z, 1, vX, vY, vZ, vel.length());
+            ParticleBatcher.get(sw).add(effect, x, y, z, vX, vY, vZ);
         } else {
             world.addParticle(effect, x, y, z, vX, vY, vZ);
         }
@@ -1,6 +1,5 @@
 package com.minelittlepony.unicopia.server.world;
 
-import java.util.Arrays;
 import java.util.List;
 import java.util.function.Supplier;
 
@@ -10,13 +9,15 @@ import com.minelittlepony.unicopia.network.Channel;
 import com.minelittlepony.unicopia.network.MsgBlockDestruction;
 import com.minelittlepony.unicopia.util.Tickable;
 
+import it.unimi.dsi.fastutil.longs.Long2ByteMap;
+import it.unimi.dsi.fastutil.longs.Long2ByteOpenHashMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
-import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import net.minecraft.block.BlockState;
 import net.minecraft.nbt.NbtCompound;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.util.Identifier;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
 import net.minecraft.world.World;
 
 public class BlockDestructionManager implements Tickable {
@@ -60,39 +61,48 @@ public class BlockDestructionManager implements Tickable {
     }
 
     public void onBlockChanged(BlockPos pos, BlockState oldState, BlockState newstate) {
-        if (oldState.getBlock() != newstate.getBlock()) {
+        if (oldState.getBlock() != newstate.getBlock() && chunks.getState(pos) != null) {
             setBlockDestruction(pos, UNSET_DAMAGE);
         }
     }
 
+    public void onChunkLoaded(ChunkPos pos) {
+        chunks.onChunkLoaded(pos);
+    }
+
     @Override
     public void tick() {
         chunks.tick();
     }
 
-    private void sendUpdates(Long2ObjectMap<Destruction> destructions, List<ServerPlayerEntity> players) {
-        Long2ObjectOpenHashMap<Float> values = new Long2ObjectOpenHashMap<>();
+    private void sendUpdates(Long2ObjectMap<Destruction> destructions, List<ServerPlayerEntity> watchers, List<ServerPlayerEntity> newWatchers) {
+        if (!watchers.isEmpty()) {
+            Long2ByteMap changes = new Long2ByteOpenHashMap();
+            destructions.forEach((blockPos, item) -> {
+                if (item.dirty) {
+                    changes.put(blockPos.longValue(), MsgBlockDestruction.pack(item.amount));
+                }
+            });
+            send(changes, watchers);
+        }
 
-        destructions.forEach((blockPos, item) -> {
-            if (item.dirty) {
-                item.dirty = false;
-                values.put(blockPos.longValue(), (Float)item.amount);
-            }
-        });
+        if (!newWatchers.isEmpty()) {
+            Long2ByteMap snapshot = new Long2ByteOpenHashMap(destructions.size());
+            destructions.forEach((blockPos, item) -> {
+                snapshot.put(blockPos.longValue(), MsgBlockDestruction.pack(item.amount));
+            });
+            send(snapshot, newWatchers);
+        }
 
-        MsgBlockDestruction msg = new MsgBlockDestruction(values);
+        destructions.values().forEach(item -> item.dirty = false);
+    }
 
-        if (msg.toBuffer().writerIndex() > 1048576) {
-            throw new IllegalStateException("Payload may not be larger than 1048576 bytes. Here's what we were trying to send: ["
-                    + values.size() + "]\n"
-                    + Arrays.toString(values.values().stream().mapToDouble(Float::doubleValue).toArray()));
+    private void send(Long2ByteMap values, List<ServerPlayerEntity> players) {
+        if (values.isEmpty()) {
+            return;
         }
-
-        players.forEach(player -> {
-            if (player instanceof ServerPlayerEntity) {
-                Channel.SERVER_BLOCK_DESTRUCTION.sendToPlayer(msg, player);
-            }
-        });
+        MsgBlockDestruction msg = new MsgBlockDestruction(values);
+        players.forEach(player -> Channel.SERVER_BLOCK_DESTRUCTION.sendToPlayer(msg, player));
     }
 
     private class Destruction implements WorldOverlay.State {
@@ -118,6 +128,11 @@ public class BlockDestructionManager implements Tickable {
             this.dirty = true;
         }
 
+        @Override
+        public boolean isDirty() {
+            return dirty;
+        }
+
         @Override
         public void toNBT(NbtCompound compound) {
             compound.putFloat("destruction", amount);
@@ -21,6 +21,13 @@ public class DragonBreathStore extends PersistentState {
     }
 
     private final Map<String, List<Entry>> payloads = new HashMap<>();
+    /**
+     * Snapshot of the recipients with pending payloads. Replaced whenever a recipient is added or removed
+     * so entities can check whether anything is waiting for them without taking the lock.
+     */
+    private volatile Set<String> recipients = Set.of();
+
+    private long lastPurge;
 
     private final Object locker = new Object();
 
@@ -31,6 +38,7 @@ public class DragonBreathStore extends PersistentState {
                 put(key, new Entry((NbtCompound)entry));
             });
         });
+        updateRecipients();
     }
 
     DragonBreathStore(World world) {
@@ -43,7 +51,7 @@ public class DragonBreathStore extends PersistentState {
             payloads.forEach((id, uuids) -> {
                 NbtList list = new NbtList();
                 uuids.forEach(entry -> {
-                    if (entry.created < System.currentTimeMillis() - MAX_MESSAGE_HOLD_TIME) {
+                    if (entry.created >= System.currentTimeMillis() - MAX_MESSAGE_HOLD_TIME) {
                         list.add(entry.toNBT(new NbtCompound()));
                     }
                 });
@@ -54,7 +62,24 @@ public class DragonBreathStore extends PersistentState {
         }
     }
 
+    /**
+     * Checks whether any payloads are waiting for delivery to anyone at all.
+     */
+    public boolean hasPendingEntries() {
+        return !recipients.isEmpty();
+    }
+
+    /**
+     * Checks whether any payloads are waiting for delivery to the named recipient.
+     */
+    public boolean hasPendingEntries(String recipient) {
+        return recipients.contains(recipient);
+    }
+
     public List<Entry> popEntries(String recipient) {
+        if (!hasPendingEntries(recipient)) {
+            return List.of();
+        }
         synchronized (locker) {
             List<Entry> entries = doPurge().get(recipient);
             if (entries == null) {
@@ -70,6 +95,10 @@ public class DragonBreathStore extends PersistentState {
                 }
                 return false;
             });
+            if (entries.isEmpty()) {
+                payloads.remove(recipient);
+                updateRecipients();
+            }
             return collected;
         }
     }
@@ -103,6 +132,9 @@ public class DragonBreathStore extends PersistentState {
                return false;
             })) {
                 put(recipient, new Entry(System.currentTimeMillis() + (long)(Math.random() * 1999), payload));
+                if (!recipients.contains(recipient)) {
+                    updateRecipients();
+                }
             }
         }
     }
@@ -111,13 +143,20 @@ public class DragonBreathStore extends PersistentState {
         payloads.computeIfAbsent(recipient, id -> new ArrayList<>()).add(entry);
     }
 
+    private void updateRecipients() {
+        recipients = Set.copyOf(payloads.keySet());
+    }
+
     private Map<String, List<Entry>> doPurge() {
         long now = System.currentTimeMillis();
-        if (now % PURGE_INTERVAL == 0) {
-            payloads.entrySet().removeIf(entry -> {
+        if (now - lastPurge >= PURGE_INTERVAL) {
+            lastPurge = now;
+            if (payloads.entrySet().removeIf(entry -> {
                entry.getValue().removeIf(e -> e.created < now - MAX_MESSAGE_HOLD_TIME);
                return entry.getValue().isEmpty();
-            });
+            })) {
+                updateRecipients();
+            }
         }
         return payloads;
     }
@@ -4,6 +4,7 @@ import java.lang.ref.WeakReference;
 import java.util.*;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiPredicate;
+import java.util.function.LongConsumer;
 import java.util.function.Predicate;
 
 import org.jetbrains.annotations.Nullable;
@@ -14,9 +15,16 @@ import com.minelittlepony.unicopia.ability.magic.spell.Spell;
 import com.minelittlepony.unicopia.ability.magic.spell.effect.SpellType;
 import com.minelittlepony.unicopia.entity.EntityReference;
 import com.minelittlepony.unicopia.util.NbtSerialisable;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
 import net.minecraft.nbt.*;
 import net.minecraft.util.Identifier;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkSectionPos;
 import net.minecraft.util.math.MathHelper;
+import net.minecraft.util.math.Vec3d;
 import net.minecraft.world.PersistentState;
 import net.minecraft.world.World;
 
@@ -29,15 +37,21 @@ public class Ether extends PersistentState {
 
     private final Map<Identifier, Map<UUID, Map<UUID, Entry<?>>>> endpoints;
 
+    /**
+     * Entries bucketed by every chunk section their area of effect overlaps, per spell type.
+     * Used to answer positional queries without visiting every entry in the world.
+     */
+    private final Map<Identifier, Long2ObjectMap<Set<Entry<?>>>> sections = new HashMap<>();
+
     private final Object locker = new Object();
 
     private final World world;
 
     Ether(World world, NbtCompound compound) {
         this.world = world;
-        this.endpoints = NbtSerialisable.readMap(compound.getCompound("endpoints"), Identifier::tryParse, typeNbt -> {
+        this.endpoints = NbtSerialisable.readMap(compound.getCompound("endpoints"), Identifier::tryParse, (typeId, typeNbt) -> {
             return NbtSerialisable.readMap((NbtCompound)typeNbt, UUID::fromString, entityNbt -> {
-                return NbtSerialisable.readMap((NbtCompound)entityNbt, UUID::fromString, nbt -> new Entry<>(nbt));
+                return NbtSerialisable.readMap((NbtCompound)entityNbt, UUID::fromString, nbt -> new Entry<>(typeId, nbt));
             });
         });
     }
@@ -78,6 +92,7 @@ public class Ether extends PersistentState {
                 entry.spell = new WeakReference<>(spell);
                 markDirty();
             }
+            entry.updateIndex();
             return entry;
         }
     }
@@ -85,7 +100,9 @@ public class Ether extends PersistentState {
     public <T extends Spell> void remove(SpellType<T> spellType, UUID entityId) {
         synchronized (locker) {
             endpoints.computeIfPresent(spellType.getId(), (typeId, entries) -> {
-                if (entries.remove(entityId) != null) {
+                var removed = entries.remove(entityId);
+                if (removed != null) {
+                    removed.values().forEach(Entry::removeFromIndex);
                     markDirty();
                 }
                 return entries.isEmpty() ? null : entries;
@@ -150,19 +167,99 @@ public class Ether extends PersistentState {
         return false;
     }
 
+    /**
+     * Checks whether any entry of the given type whose area of effect may reach the supplied position matches a condition.
+     * Only entries indexed into the chunk section containing the position are tested.
+     */
+    public <T extends Spell> boolean anyMatch(SpellType<T> spellType, Vec3d pos, BiPredicate<T, Caster<?>> condition) {
+        return anyMatch(spellType, MathHelper.floor(pos.x), MathHelper.floor(pos.y), MathHelper.floor(pos.z), entry -> {
+            var spell = entry.getSpell();
+            var caster = entry.getCaster();
+            return spell != null && caster != null && condition.test(spell, caster);
+        });
+    }
+
+    public <T extends Spell> boolean anyMatch(SpellType<T> spellType, Vec3d pos, Predicate<Entry<T>> condition) {
+        return anyMatch(spellType, MathHelper.floor(pos.x), MathHelper.floor(pos.y), MathHelper.floor(pos.z), condition);
+    }
+
+    public <T extends Spell> boolean anyMatch(SpellType<T> spellType, BlockPos pos, Predicate<Entry<T>> condition) {
+        return anyMatch(spellType, pos.getX(), pos.getY(), pos.getZ(), condition);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T extends Spell> boolean anyMatch(SpellType<T> spellType, int x, int y, int z, Predicate<Entry<T>> condition) {
+        synchronized (locker) {
+            var index = sections.get(spellType.getId());
+            if (index == null) {
+                return false;
+            }
+            var bucket = index.get(ChunkSectionPos.asLong(
+                    ChunkSectionPos.getSectionCoord(x),
+                    ChunkSectionPos.getSectionCoord(y),
+                    ChunkSectionPos.getSectionCoord(z)
+            ));
+            if (bucket == null) {
+                return false;
+            }
+            for (var entry : bucket) {
+                if (!entry.isDead() && condition.test((Entry<T>)entry)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
     private void pruneNodes() {
         this.endpoints.values().removeIf(entities -> {
             entities.values().removeIf(spells -> {
-                spells.values().removeIf(Entry::isDead);
+                spells.values().removeIf(entry -> {
+                    if (entry.isDead()) {
+                        entry.removeFromIndex();
+                        return true;
+                    }
+                    return false;
+                });
                 return spells.isEmpty();
             });
             return entities.isEmpty();
         });
     }
 
+    /**
+     * The range of chunk sections, inclusive, covered by an entry's area of effect.
+     */
+    private record SectionBounds(int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+        static SectionBounds of(Vec3d center, double radius) {
+            return new SectionBounds(
+                    ChunkSectionPos.getSectionCoord(MathHelper.floor(center.x - radius)),
+                    ChunkSectionPos.getSectionCoord(MathHelper.floor(center.y - radius)),
+                    ChunkSectionPos.getSectionCoord(MathHelper.floor(center.z - radius)),
+                    ChunkSectionPos.getSectionCoord(MathHelper.floor(center.x + radius)),
+                    ChunkSectionPos.getSectionCoord(MathHelper.floor(center.y + radius)),
+                    ChunkSectionPos.getSectionCoord(MathHelper.floor(center.z + radius))
+            );
+        }
+
+        void forEach(LongConsumer consumer) {
+            for (int x = minX; x <= maxX; x++) {
+                for (int y = minY; y <= maxY; y++) {
+                    for (int z = minZ; z <= maxZ; z++) {
+                        consumer.accept(ChunkSectionPos.asLong(x, y, z));
+                    }
+                }
+            }
+        }
+    }
+
     public class Entry<T extends Spell> implements NbtSerialisable {
         public final EntityReference<?> entity;
 
+        private final Identifier typeId;
+        @Nullable
+        private SectionBounds indexedBounds;
+
         @Nullable
         private UUID spellId;
         private WeakReference<T> spell;
@@ -176,18 +273,61 @@ public class Ether extends PersistentState {
 
         private final Set<UUID> claimants = new HashSet<>();
 
-        private Entry(NbtElement nbt) {
+        private Entry(Identifier typeId, NbtElement nbt) {
+            this.typeId = typeId;
             this.entity = new EntityReference<>();
             this.spell = new WeakReference<>(null);
             this.fromNBT((NbtCompound)nbt);
+            updateIndex();
         }
 
         public Entry(T spell, Caster<?> caster) {
+            this.typeId = spell.getTypeAndTraits().type().getId();
             this.entity = new EntityReference<>(caster.asEntity());
             this.spell = new WeakReference<>(spell);
             spellId = spell.getUuid();
         }
 
+        /**
+         * Moves this entry to the sections covered by its current position and radius.
+         */
+        void updateIndex() {
+            synchronized (locker) {
+                var target = removed ? null : entity.getTarget().orElse(null);
+                SectionBounds bounds = target == null ? null : SectionBounds.of(target.pos(), radius + 1);
+                if (Objects.equals(bounds, indexedBounds)) {
+                    return;
+                }
+                removeFromIndex();
+                indexedBounds = bounds;
+                if (bounds != null) {
+                    var index = sections.computeIfAbsent(typeId, id -> new Long2ObjectOpenHashMap<>());
+                    bounds.forEach(section -> index.computeIfAbsent(section, s -> new ReferenceOpenHashSet<>()).add(this));
+                }
+            }
+        }
+
+        void removeFromIndex() {
+            synchronized (locker) {
+                if (indexedBounds == null) {
+                    return;
+                }
+                var index = sections.get(typeId);
+                if (index != null) {
+                    indexedBounds.forEach(section -> {
+                        var bucket = index.get(section);
+                        if (bucket != null && bucket.remove(this) && bucket.isEmpty()) {
+                            index.remove(section);
+                        }
+                    });
+                    if (index.isEmpty()) {
+                        sections.remove(typeId);
+                    }
+                }
+                indexedBounds = null;
+            }
+        }
+
         public boolean hasChanged() {
             return changed.getAndSet(false);
         }
@@ -225,6 +365,7 @@ public class Ether extends PersistentState {
                 this.radius = radius;
                 changed.set(true);
             }
+            updateIndex();
             markDirty();
         }
 
@@ -1,34 +1,41 @@
 package com.minelittlepony.unicopia.server.world;
 
-import java.util.HashSet;
-import java.util.Set;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.UUID;
-import java.util.function.Function;
 
 import com.minelittlepony.unicopia.Unicopia;
-import com.minelittlepony.unicopia.entity.DynamicLightSource;
 
-import it.unimi.dsi.fastutil.objects.AbstractObject2IntMap;
-import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntMaps;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import net.minecraft.entity.Entity;
 import net.minecraft.nbt.NbtCompound;
-import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.Identifier;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.ChunkSectionPos;
 import net.minecraft.world.PersistentState;
 import net.minecraft.world.World;
 
 public class LightSources extends PersistentState {
     private static final Identifier ID = Unicopia.id("light_sources");
 
-    private final Set<UUID> lightSourceIds = new HashSet<>();
-    private final AbstractObject2IntMap<UUID> lightSourceClientIds = new Object2IntOpenHashMap<>();
-    private volatile boolean empty = true;
+    private final Map<UUID, Emission> emissions = new HashMap<>();
 
-    private final World world;
+    /**
+     * Combined luminance of every light source, keyed by chunk and then by block position.
+     * <p>
+     * Chunk maps are never mutated once published, only replaced. Replacing the map of a chunk that's
+     * already present doesn't change the outer map's structure so it's done in place, and only adding
+     * or removing a chunk copies the outer map. Either way the result is published through this field,
+     * so the lighting engine can read it from any thread without holding a lock.
+     */
+    private volatile Long2ObjectMap<Long2IntMap> luminance = new Long2ObjectOpenHashMap<>();
 
-    private final Function<UUID, Entity> entitySupplier;
+    private final World world;
 
     public static LightSources get(World world) {
         return WorldOverlay.getPersistableStorage(world, ID, LightSources::new, LightSources::new);
@@ -40,7 +47,6 @@ public class LightSources extends PersistentState {
 
     LightSources(World world) {
         this.world = world;
-        entitySupplier = world instanceof ServerWorld s ? s::getEntity : id -> world.getEntityById(lightSourceClientIds.getInt(id));
     }
 
     @Override
@@ -48,74 +54,89 @@ public class LightSources extends PersistentState {
         return compound;
     }
 
-    public void addLightSource(Entity entity) {
-        synchronized (lightSourceIds) {
-            lightSourceIds.add(entity.getUuid());
-            lightSourceClientIds.put(entity.getUuid(), entity.getId());
-            empty = false;
+    public void updateLightSource(Entity entity, BlockPos pos, int light) {
+        Emission emission = new Emission(pos.asLong(), light);
+        synchronized (emissions) {
+            Emission previous = emissions.put(entity.getUuid(), emission);
+            if (emission.equals(previous)) {
+                return;
+            }
+            if (previous != null) {
+                adjust(previous.pos(), -previous.light());
+            }
+            adjust(emission.pos(), emission.light());
         }
     }
 
     public void removeLightSource(Entity entity) {
-        if (empty) {
+        if (luminance.isEmpty()) {
             return;
         }
-        synchronized (lightSourceIds) {
-            lightSourceIds.remove(entity.getUuid());
-            lightSourceClientIds.removeInt(entity.getUuid());
-            empty = lightSourceIds.isEmpty();
+        synchronized (emissions) {
+            Emission previous = emissions.remove(entity.getUuid());
+            if (previous != null) {
+                adjust(previous.pos(), -previous.light());
+            }
         }
     }
 
-    public int getLuminance(long blockPos) {
-        if (empty) {
-            return 0;
+    private void adjust(long blockPos, int amount) {
+        long chunkPos = getChunkPos(blockPos);
+        Long2ObjectMap<Long2IntMap> index = luminance;
+        Long2IntMap original = index.get(chunkPos);
+        Long2IntMap chunk = original == null ? new Long2IntOpenHashMap() : new Long2IntOpenHashMap(original);
+        int light = chunk.get(blockPos) + amount;
+        if (light > 0) {
+            chunk.put(blockPos, light);
+        } else {
+            chunk.remove(blockPos);
         }
-        final int[] result = {0};
-        forEachLightSource((pos, level) -> {
-           if (pos.asLong() == blockPos) {
-               result[0] += level;
-           }
-        });
-        return result[0];
+        if (chunk.isEmpty()) {
+            if (original != null) {
+                index = new Long2ObjectOpenHashMap<>(index);
+                index.remove(chunkPos);
+            }
+        } else {
+            if (original == null) {
+                index = new Long2ObjectOpenHashMap<>(index);
+            }
+            index.put(chunkPos, chunk);
+        }
+        luminance = index;
     }
 
-    public void forEachLightSource(ChunkPos chunkPos, LightSourceConsumer consumer) {
-        forEachLightSource((pos, level) -> {
-            if (checkPos(chunkPos, pos)) {
-                consumer.accept(pos, level);
-            }
-        });
+    private static long getChunkPos(long blockPos) {
+        return ChunkPos.toLong(
+                ChunkSectionPos.getSectionCoord(BlockPos.unpackLongX(blockPos)),
+                ChunkSectionPos.getSectionCoord(BlockPos.unpackLongZ(blockPos))
+        );
     }
 
-    public void forEachLightSource(LightSourceConsumer consumer) {
-        if (empty) {
-            return;
-        }
-        synchronized (lightSourceIds) {
-            lightSourceIds.removeIf(id -> {
-                Entity entity = entitySupplier.apply(id);
-                if (entity instanceof DynamicLightSource source) {
-                    consumer.accept(entity.getBlockPos(), source.getLightLevel());
-                    return false;
-                }
-                return true;
-            });
-            empty = lightSourceIds.isEmpty();
+    public int getLuminance(long blockPos) {
+        var index = luminance;
+        if (index.isEmpty()) {
+            return 0;
         }
+        Long2IntMap chunk = index.get(getChunkPos(blockPos));
+        return chunk == null ? 0 : chunk.get(blockPos);
     }
 
-    private boolean checkPos(ChunkPos chunkPos, BlockPos pos) {
-        return world.isInBuildLimit(pos)
-            && checkPos(pos.getX(), chunkPos.getStartX(), chunkPos.getEndX())
-            && checkPos(pos.getZ(), chunkPos.getStartZ(), chunkPos.getEndZ());
+    public void forEachLightSource(ChunkPos chunkPos, LightSourceConsumer consumer) {
+        Long2IntMap chunk = luminance.get(chunkPos.toLong());
+        if (chunk == null) {
+            return;
+        }
+        Long2IntMaps.fastForEach(chunk, entry -> {
+            long pos = entry.getLongKey();
+            if (!world.isOutOfHeightLimit(BlockPos.unpackLongY(pos))) {
+                consumer.accept(pos, entry.getIntValue());
+            }
+        });
     }
 
-    private boolean checkPos(int p, int min, int max) {
-        return p >= min && p <= max;
-    }
+    private record Emission(long pos, int light) {}
 
     public interface LightSourceConsumer {
-        void accept(BlockPos pos, int light);
+        void accept(long pos, int light);
     }
 }
@@ -1,7 +1,10 @@
 package com.minelittlepony.unicopia.server.world;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
 import org.jetbrains.annotations.Nullable;
@@ -9,36 +12,101 @@ import org.jetbrains.annotations.Nullable;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
+import com.minelittlepony.unicopia.Unicopia;
 import com.mojang.authlib.GameProfile;
 
 import net.fabricmc.fabric.api.entity.FakePlayer;
+import net.minecraft.datafixer.DataFixTypes;
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.nbt.NbtHelper;
+import net.minecraft.nbt.NbtIo;
+import net.minecraft.nbt.NbtTagSizeTracker;
+import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.Util;
+import net.minecraft.util.WorldSavePath;
 
+/**
+ * Provides stand-ins for players who aren't online so their permissions can still be checked.
+ * <p>
+ * Saved player data is read on the io worker threads and applied to the stand-in on the server thread,
+ * so until that has happened an offline player is reported as still loading.
+ */
 public class OfflinePlayerCache {
-    private static final LoadingCache<Key, Optional<ServerPlayerEntity>> CACHE = CacheBuilder.newBuilder()
+    private static final LoadingCache<Key, CompletableFuture<Optional<ServerPlayerEntity>>> CACHE = CacheBuilder.newBuilder()
             .expireAfterAccess(1, TimeUnit.MINUTES)
             .build(CacheLoader.from(key -> {
-                ServerPlayerEntity offlinePlayer = FakePlayer.get(key.world(), new GameProfile(key.playerId(), "[Offline Player]"));
+                MinecraftServer server = key.world().getServer();
+                return CompletableFuture.supplyAsync(() -> readPlayerData(server, key.playerId()), Util.getIoWorkerExecutor())
+                        .thenApplyAsync(data -> data.map(nbt -> {
+                            ServerPlayerEntity offlinePlayer = FakePlayer.get(key.world(), new GameProfile(key.playerId(), "[Offline Player]"));
+                            offlinePlayer.readNbt(nbt);
+                            return offlinePlayer;
+                        }), server)
+                        .exceptionally(e -> {
+                            Unicopia.LOGGER.warn("Failed to load offline player {}", key.playerId(), e);
+                            return Optional.empty();
+                        });
+            }));
 
-                if (key.world().getServer().getPlayerManager().loadPlayerData(offlinePlayer) != null) {
-                    return Optional.of(offlinePlayer);
-                }
+    /**
+     * Gets a player by their id, falling back to a stand-in made from their saved data if they're offline.
+     *
+     * @return The player, or null if they have no saved data or it's still being loaded.
+     */
+    @Nullable
+    public static ServerPlayerEntity getOfflinePlayer(ServerWorld world, @Nullable UUID playerId) {
+        if (playerId == null) {
+            return null;
+        }
+        ServerPlayerEntity player = getOnlinePlayer(world, playerId);
+        if (player == null) {
+            return CACHE.getUnchecked(new Key(world, playerId)).getNow(Optional.empty()).orElse(null);
+        }
+        return player;
+    }
 
-                return Optional.empty();
-            }));
+    /**
+     * Checks whether the given player is offline and their saved data hasn't finished loading yet.
+     */
+    public static boolean isLoading(ServerWorld world, @Nullable UUID playerId) {
+        return playerId != null
+                && getOnlinePlayer(world, playerId) == null
+                && !CACHE.getUnchecked(new Key(world, playerId)).isDone();
+    }
+
+    /**
+     * Starts loading the saved data of an offline player ahead of it being needed.
+     */
+    public static void prefetch(ServerWorld world, UUID playerId) {
+        if (getOnlinePlayer(world, playerId) == null) {
+            CACHE.getUnchecked(new Key(world, playerId));
+        }
+    }
 
     @Nullable
-    public static ServerPlayerEntity getOfflinePlayer(ServerWorld world, UUID playerId) {
+    private static ServerPlayerEntity getOnlinePlayer(ServerWorld world, UUID playerId) {
         ServerPlayerEntity player = (ServerPlayerEntity)world.getPlayerByUuid(playerId);
         if (player == null) {
             player = world.getServer().getPlayerManager().getPlayer(playerId);
         }
-        if (player == null) {
-            return CACHE.getUnchecked(new Key(world, playerId)).orElse(null);
-        }
         return player;
     }
 
+    private static Optional<NbtCompound> readPlayerData(MinecraftServer server, UUID playerId) {
+        Path file = server.getSavePath(WorldSavePath.PLAYERDATA).resolve(playerId + ".dat");
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        try {
+            NbtCompound nbt = NbtIo.readCompressed(file, NbtTagSizeTracker.ofUnlimitedBytes());
+            return Optional.of(DataFixTypes.PLAYER.update(server.getDataFixer(), nbt, NbtHelper.getDataVersion(nbt, -1)));
+        } catch (Exception e) {
+            Unicopia.LOGGER.warn("Failed to read player data for {}", playerId, e);
+            return Optional.empty();
+        }
+    }
+
     record Key (ServerWorld world, UUID playerId) {}
 }
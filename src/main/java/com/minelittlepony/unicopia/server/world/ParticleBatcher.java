@@ -0,0 +1,158 @@
+package com.minelittlepony.unicopia.server.world;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.jetbrains.annotations.Nullable;
+
+import com.minelittlepony.unicopia.Unicopia;
+import com.minelittlepony.unicopia.network.Channel;
+import com.minelittlepony.unicopia.network.MsgSpawnParticles;
+
+import io.netty.buffer.Unpooled;
+import it.unimi.dsi.fastutil.bytes.ByteArrayList;
+import it.unimi.dsi.fastutil.bytes.ByteList;
+import it.unimi.dsi.fastutil.doubles.DoubleArrayList;
+import it.unimi.dsi.fastutil.floats.FloatArrayList;
+import it.unimi.dsi.fastutil.floats.FloatList;
+import it.unimi.dsi.fastutil.objects.Object2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.network.PacketByteBuf;
+import net.minecraft.particle.ParticleEffect;
+import net.minecraft.particle.ParticleType;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.util.Identifier;
+import net.minecraft.world.PersistentState;
+import net.minecraft.world.World;
+
+/**
+ * Collects the particles spawned in a world over a tick and sends them to each player as a single packet.
+ * <p>
+ * Players only receive the particles within the same distance as vanilla's particle packets.
+ * Particles are grouped by the type and serialized parameters of their effect, so equal effects
+ * created separately still share a group.
+ */
+public class ParticleBatcher extends PersistentState {
+    private static final Identifier ID = Unicopia.id("particle_batcher");
+    private static final double RANGE = 32;
+
+    private final Map<Key, Group> groups = new Object2ObjectLinkedOpenHashMap<>();
+    /**
+     * Groups already resolved for effect instances seen this tick, to save serializing them again.
+     */
+    private final Map<ParticleEffect, Group> groupsByEffect = new Reference2ObjectOpenHashMap<>();
+
+    private final World world;
+
+    public static ParticleBatcher get(World world) {
+        return WorldOverlay.getPersistableStorage(world, ID, ParticleBatcher::new, ParticleBatcher::new);
+    }
+
+    ParticleBatcher(World world, NbtCompound compound) {
+        this(world);
+    }
+
+    ParticleBatcher(World world) {
+        this.world = world;
+    }
+
+    @Override
+    public NbtCompound writeNbt(NbtCompound compound) {
+        return compound;
+    }
+
+    public void add(ParticleEffect effect, double x, double y, double z, double vX, double vY, double vZ) {
+        groupsByEffect.computeIfAbsent(effect, e -> groups.computeIfAbsent(Key.of(effect), k -> new Group(effect))).add(x, y, z, vX, vY, vZ);
+    }
+
+    public void flush() {
+        if (groups.isEmpty()) {
+            return;
+        }
+
+        for (var player : world.getPlayers()) {
+            if (player instanceof ServerPlayerEntity serverPlayer) {
+                List<MsgSpawnParticles.Batch> batches = null;
+                for (Group group : groups.values()) {
+                    @Nullable MsgSpawnParticles.Batch batch = group.collect(serverPlayer);
+                    if (batch != null) {
+                        if (batches == null) {
+                            batches = new ArrayList<>(groups.size());
+                        }
+                        batches.add(batch);
+                    }
+                }
+                if (batches != null) {
+                    Channel.SERVER_SPAWN_PARTICLES.sendToPlayer(new MsgSpawnParticles(batches), serverPlayer);
+                }
+            }
+        }
+
+        groups.clear();
+        groupsByEffect.clear();
+    }
+
+    private record Key(ParticleType<?> type, ByteList parameters) {
+        static Key of(ParticleEffect effect) {
+            PacketByteBuf buffer = new PacketByteBuf(Unpooled.buffer());
+            try {
+                effect.write(buffer);
+                byte[] parameters = new byte[buffer.readableBytes()];
+                buffer.readBytes(parameters);
+                return new Key(effect.getType(), ByteArrayList.wrap(parameters));
+            } finally {
+                buffer.release();
+            }
+        }
+    }
+
+    private static final class Group {
+        private final ParticleEffect effect;
+        private final DoubleArrayList positions = new DoubleArrayList();
+        private final FloatArrayList velocities = new FloatArrayList();
+
+        Group(ParticleEffect effect) {
+            this.effect = effect;
+        }
+
+        void add(double x, double y, double z, double vX, double vY, double vZ) {
+            positions.add(x);
+            positions.add(y);
+            positions.add(z);
+            velocities.add((float)vX);
+            velocities.add((float)vY);
+            velocities.add((float)vZ);
+        }
+
+        @Nullable
+        MsgSpawnParticles.Batch collect(ServerPlayerEntity player) {
+            FloatList values = null;
+            double originX = 0;
+            double originY = 0;
+            double originZ = 0;
+            for (int i = 0; i < positions.size(); i += 3) {
+                double x = positions.getDouble(i);
+                double y = positions.getDouble(i + 1);
+                double z = positions.getDouble(i + 2);
+                if (player.squaredDistanceTo(x, y, z) >= RANGE * RANGE) {
+                    continue;
+                }
+                if (values == null) {
+                    values = new FloatArrayList();
+                    originX = x;
+                    originY = y;
+                    originZ = z;
+                }
+                values.add((float)(x - originX));
+                values.add((float)(y - originY));
+                values.add((float)(z - originZ));
+                values.add(velocities.getFloat(i));
+                values.add(velocities.getFloat(i + 1));
+                values.add(velocities.getFloat(i + 2));
+            }
+            return values == null ? null : new MsgSpawnParticles.Batch(effect, originX, originY, originZ, values);
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.minelittlepony.unicopia.server.world;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.UUID;
+
+import com.minelittlepony.unicopia.entity.mob.StormCloudEntity;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+
+/**
+ * Keeps track of the storm clouds in a world, indexed by the regions they cover.
+ * <p>
+ * Clouds refresh their registration every tick for as long as they're stormy.
+ * Storms that stop being refreshed are dropped once their deadline passes.
+ */
+final class StormTracker {
+    /**
+     * Size, as a power of two, of the square regions storms are indexed into.
+     */
+    private static final int REGION_SHIFT = 6;
+    /**
+     * Number of ticks a storm stays registered after it was last refreshed.
+     */
+    private static final int STORM_LIFETIME = 5;
+    /**
+     * Extra distance covered by a storm's regions to account for the cloud moving between refreshes.
+     */
+    private static final int MARGIN = 2;
+
+    private final Map<UUID, Storm> storms = new HashMap<>();
+    private final Long2ObjectMap<List<Storm>> regions = new Long2ObjectOpenHashMap<>();
+    private final Queue<Expiry> expiryQueue = new PriorityQueue<>(Comparator.comparingLong(Expiry::deadline));
+
+    public synchronized void add(StormCloudEntity cloud, long time) {
+        expire(time);
+        Storm storm = storms.computeIfAbsent(cloud.getUuid(), Storm::new);
+        if (storm.cloud.get() != cloud) {
+            storm.cloud = new WeakReference<>(cloud);
+        }
+        if (storm.deadline == 0) {
+            expiryQueue.add(new Expiry(storm, time + STORM_LIFETIME));
+        }
+        storm.deadline = time + STORM_LIFETIME;
+        storm.updateRegions(cloud);
+    }
+
+    public synchronized void expire(long time) {
+        while (!expiryQueue.isEmpty() && expiryQueue.peek().deadline() <= time) {
+            Storm storm = expiryQueue.poll().storm();
+            if (storm.deadline > time && !storm.shouldRemove()) {
+                expiryQueue.add(new Expiry(storm, storm.deadline));
+            } else {
+                storm.unindex();
+                storms.remove(storm.id);
+            }
+        }
+    }
+
+    public synchronized boolean isInRange(BlockPos pos) {
+        List<Storm> region = regions.get(ChunkPos.toLong(pos.getX() >> REGION_SHIFT, pos.getZ() >> REGION_SHIFT));
+        if (region != null) {
+            for (Storm storm : region) {
+                if (storm.inRange(pos)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private record Expiry(Storm storm, long deadline) {}
+
+    private final class Storm {
+        private final UUID id;
+        private WeakReference<StormCloudEntity> cloud = new WeakReference<>(null);
+        private long deadline;
+
+        private int minX;
+        private int minZ;
+        private int maxX;
+        private int maxZ;
+        private boolean indexed;
+
+        Storm(UUID id) {
+            this.id = id;
+        }
+
+        void updateRegions(StormCloudEntity cloud) {
+            BlockPos pos = cloud.getBlockPos();
+            int radius = cloud.getSizeInBlocks() + MARGIN;
+            int minX = (pos.getX() - radius) >> REGION_SHIFT;
+            int minZ = (pos.getZ() - radius) >> REGION_SHIFT;
+            int maxX = (pos.getX() + radius) >> REGION_SHIFT;
+            int maxZ = (pos.getZ() + radius) >> REGION_SHIFT;
+
+            if (indexed && minX == this.minX && minZ == this.minZ && maxX == this.maxX && maxZ == this.maxZ) {
+                return;
+            }
+
+            unindex();
+            this.minX = minX;
+            this.minZ = minZ;
+            this.maxX = maxX;
+            this.maxZ = maxZ;
+            indexed = true;
+            for (int x = minX; x <= maxX; x++) {
+                for (int z = minZ; z <= maxZ; z++) {
+                    regions.computeIfAbsent(ChunkPos.toLong(x, z), r -> new ArrayList<>()).add(this);
+                }
+            }
+        }
+
+        void unindex() {
+            if (!indexed) {
+                return;
+            }
+            indexed = false;
+            for (int x = minX; x <= maxX; x++) {
+                for (int z = minZ; z <= maxZ; z++) {
+                    long key = ChunkPos.toLong(x, z);
+                    List<Storm> region = regions.get(key);
+                    if (region != null && region.remove(this) && region.isEmpty()) {
+                        regions.remove(key);
+                    }
+                }
+            }
+        }
+
+        boolean inRange(BlockPos pos) {
+            final StormCloudEntity cloud = this.cloud.get();
+            if (cloud == null || cloud.isRemoved() || !cloud.isStormy()) {
+                return false;
+            }
+            BlockPos cloudPos = cloud.getBlockPos();
+            if (pos.getY() > cloudPos.getY() + cloud.getHeight()) {
+                return false;
+            }
+            float radius = cloud.getSizeInBlocks();
+            return Math.abs(cloudPos.getX() - pos.getX()) <= radius
+                    && Math.abs(cloudPos.getZ() - pos.getZ()) <= radius;
+        }
+
+        boolean shouldRemove() {
+            final StormCloudEntity cloud = this.cloud.get();
+            return cloud == null || cloud.isRemoved() || !cloud.isStormy();
+        }
+    }
+}
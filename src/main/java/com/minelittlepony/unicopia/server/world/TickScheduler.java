@@ -0,0 +1,120 @@
+package com.minelittlepony.unicopia.server.world;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Consumer;
+
+import com.minelittlepony.unicopia.Unicopia;
+
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.util.Identifier;
+import net.minecraft.world.PersistentState;
+import net.minecraft.world.World;
+
+/**
+ * Runs tasks on the server thread once a number of a world's ticks have passed.
+ * <p>
+ * Tasks are kept in a timing wheel with a slot for each tick, wrapping around every {@link #WHEEL_SIZE} ticks.
+ * At most {@link #TASK_BUDGET} tasks are run per tick, with any left over carried on to the next.
+ */
+public class TickScheduler extends PersistentState {
+    private static final Identifier ID = Unicopia.id("tick_scheduler");
+    private static final int WHEEL_SIZE = 64;
+    private static final int TASK_BUDGET = 512;
+
+    @SuppressWarnings("unchecked")
+    private final List<Task>[] wheel = new List[WHEEL_SIZE];
+    private final Deque<Task> due = new ArrayDeque<>();
+
+    private long tick;
+
+    private final World world;
+
+    public static TickScheduler get(World world) {
+        return WorldOverlay.getPersistableStorage(world, ID, TickScheduler::new, TickScheduler::new);
+    }
+
+    TickScheduler(World world, NbtCompound compound) {
+        this(world);
+    }
+
+    TickScheduler(World world) {
+        this.world = world;
+    }
+
+    @Override
+    public NbtCompound writeNbt(NbtCompound compound) {
+        return compound;
+    }
+
+    /**
+     * Schedules a task to run at the end of the world tick the given number of ticks from now.
+     * A delay of zero runs it at the end of the current tick.
+     */
+    public synchronized Task schedule(Consumer<World> action, int ticksLater) {
+        Task task = new Task(action, tick + Math.max(0, ticksLater));
+        int slot = (int)(task.deadline & (WHEEL_SIZE - 1));
+        if (wheel[slot] == null) {
+            wheel[slot] = new ArrayList<>();
+        }
+        wheel[slot].add(task);
+        return task;
+    }
+
+    public void tick() {
+        synchronized (this) {
+            List<Task> slot = wheel[(int)(tick & (WHEEL_SIZE - 1))];
+            if (slot != null && !slot.isEmpty()) {
+                long now = tick;
+                slot.removeIf(task -> {
+                    if (task.deadline <= now) {
+                        if (!task.isCancelled()) {
+                            due.add(task);
+                        }
+                        return true;
+                    }
+                    return false;
+                });
+            }
+            tick++;
+        }
+
+        for (int budget = TASK_BUDGET; budget > 0; budget--) {
+            Task task;
+            synchronized (this) {
+                task = due.poll();
+            }
+            if (task == null) {
+                return;
+            }
+            if (!task.isCancelled()) {
+                try {
+                    task.action.accept(world);
+                } catch (Throwable t) {
+                    Unicopia.LOGGER.error("Exception whilst running scheduled task", t);
+                }
+            }
+        }
+    }
+
+    public static final class Task {
+        private final Consumer<World> action;
+        private final long deadline;
+        private volatile boolean cancelled;
+
+        Task(Consumer<World> action, long deadline) {
+            this.action = action;
+            this.deadline = deadline;
+        }
+
+        public void cancel() {
+            cancelled = true;
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+}
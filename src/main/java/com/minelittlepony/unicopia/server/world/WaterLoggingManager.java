@@ -1,5 +1,7 @@
 package com.minelittlepony.unicopia.server.world;
 
+import java.util.Optional;
+
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 
 import com.minelittlepony.unicopia.Unicopia;
@@ -50,10 +52,16 @@ public class WaterLoggingManager<O, S extends State<O, S>> {
         }
     }
 
-    public void getFluidState(O owner, S state, CallbackInfoReturnable<FluidState> info) {
+    /**
+     * Gets the fluid state to report in place of a state's own, if it is one we waterlog.
+     * <p>
+     * The result only depends on the state, so it's safe for callers to resolve it once and keep it with the state.
+     */
+    public Optional<FluidState> getFluidStateOverride(O owner, S state) {
         if (appliesTo(owner, state)) {
-            info.setReturnValue((state.get(Properties.WATERLOGGED) ? Fluids.WATER : Fluids.EMPTY).getDefaultState());
+            return Optional.of((state.get(Properties.WATERLOGGED) ? Fluids.WATER : Fluids.EMPTY).getDefaultState());
         }
+        return Optional.empty();
     }
 
     public void getUpdatedState(WorldAccess world, BlockPos pos, BlockState oldState, CallbackInfoReturnable<BlockState> info) {
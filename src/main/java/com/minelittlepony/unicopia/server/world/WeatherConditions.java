@@ -1,15 +1,12 @@
 package com.minelittlepony.unicopia.server.world;
 
-import java.lang.ref.WeakReference;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.UUID;
-
 import com.minelittlepony.unicopia.Unicopia;
 import com.minelittlepony.unicopia.entity.mob.StormCloudEntity;
 import com.minelittlepony.unicopia.util.MeteorlogicalUtil;
 import com.minelittlepony.unicopia.util.Tickable;
 
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.Blocks;
 import net.minecraft.nbt.NbtCompound;
@@ -25,16 +22,7 @@ import net.minecraft.world.World;
 public class WeatherConditions extends PersistentState implements Tickable {
     public static final Plane HEIGHT_MAP_FIELD = (world, pos) -> world.getTopY(Heightmap.Type.WORLD_SURFACE_WG, pos.getX(), pos.getZ());
     public static final Plane THERMAL_FIELD = (world, pos) -> (float)getUpdraft(pos, world);
-    public static final Plane LOCAL_ALTITUDE_FIELD = (world, pos) -> {
-        if (!world.isAir(pos)) {
-            return 0;
-        }
-        int y = pos.getY();
-        do {
-            pos.move(Direction.DOWN);
-        } while (world.isAir(pos) && world.isInBuildLimit(pos));
-        return y - pos.getY();
-    };
+    public static final Plane LOCAL_ALTITUDE_FIELD = (world, pos) -> get(world).getLocalAltitude(pos);
 
     public static final double FIRE_UPDRAFT = 0.13;
     public static final double SAND_UPDRAFT = 0.03;
@@ -46,6 +34,11 @@ public class WeatherConditions extends PersistentState implements Tickable {
     public static final float MAX_TERRAIN_HEIGHT = 50;
     public static final float MAX_WIND_HEIGHT = 70;
 
+    /**
+     * Number of ticks a cached column stays valid for before its surface is sampled again.
+     */
+    private static final int COLUMN_LIFETIME = 20;
+
     private static final Identifier ID = Unicopia.id("weather_conditions");
 
     public static WeatherConditions get(World world) {
@@ -61,7 +54,20 @@ public class WeatherConditions extends PersistentState implements Tickable {
 
     private boolean prevDayState;
 
-    private Map<UUID, Storm> storms = new HashMap<>();
+    private final StormTracker storms = new StormTracker();
+
+    /**
+     * Surface samples keyed by block column. Entries are checked against the world's heightmap on
+     * every lookup and refreshed every {@link #COLUMN_LIFETIME} ticks to pick up changes that don't
+     * affect the surface height.
+     */
+    private final Long2ObjectMap<Column> columns = new Long2ObjectOpenHashMap<>();
+    private long nextColumnPruneTime;
+
+    private final Plane localAltitudeField = (world, pos) -> getLocalAltitude(pos);
+    private final Plane thermalField = (world, pos) -> (float)getUpdraft(pos);
+
+    private final Random gustRandom = Random.create();
 
     private WeatherConditions(World world, NbtCompound compound) {
         this(world);
@@ -77,20 +83,23 @@ public class WeatherConditions extends PersistentState implements Tickable {
     }
 
     public void addStorm(StormCloudEntity cloud) {
-        synchronized (storms) {
-            storms.computeIfAbsent(cloud.getUuid(), id -> new Storm(cloud));
-        }
+        storms.add(cloud, world.getTime());
+    }
+
+    /**
+     * Drops any storms whose clouds have stopped refreshing them.
+     */
+    public void tickStorms() {
+        storms.expire(world.getTime());
     }
 
     public boolean isInRangeOfStorm(BlockPos pos) {
-        synchronized (storms) {
-            storms.values().removeIf(Storm::shouldRemove);
-            return storms.values().stream().anyMatch(storm -> storm.inRange(pos));
-        }
+        return storms.isInRange(pos);
     }
 
     @Override
     public void tick() {
+        tickStorms();
         if (interpolation < maxInterpolation) {
             interpolation++;
             markDirty();
@@ -132,42 +141,67 @@ public class WeatherConditions extends PersistentState implements Tickable {
         return compound;
     }
 
-    private class Storm {
-        private final WeakReference<StormCloudEntity> cloud;
+    private Column getColumn(int x, int z) {
+        long time = world.getTime();
+        if (time >= nextColumnPruneTime) {
+            nextColumnPruneTime = time + COLUMN_LIFETIME;
+            columns.values().removeIf(column -> column.expiry() <= time);
+        }
+
+        int surfaceY = world.getTopY(Heightmap.Type.WORLD_SURFACE, x, z);
+        long key = ChunkPos.toLong(x, z);
+        Column column = columns.get(key);
+        if (column == null || column.surfaceY() != surfaceY || column.expiry() <= time) {
+            column = new Column(surfaceY, (float)getMaterialSurfaceTemperature(new BlockPos.Mutable(x, surfaceY - 1, z), world), time + COLUMN_LIFETIME);
+            columns.put(key, column);
+        }
+        return column;
+    }
 
-        public Storm(StormCloudEntity cloud) {
-            this.cloud = new WeakReference<>(cloud);
+    /**
+     * Gets the distance from the given position to the first solid block below it, moving the position onto that block.
+     */
+    private float getLocalAltitude(BlockPos.Mutable pos) {
+        Column column = getColumn(pos.getX(), pos.getZ());
+        int y = pos.getY();
+        if (y >= column.surfaceY()) {
+            pos.setY(column.surfaceY() - 1);
+            return y - pos.getY();
         }
 
-        public boolean inRange(BlockPos pos) {
-            final StormCloudEntity cloud = this.cloud.get();
-            if (cloud == null) {
-                return false;
-            }
-            BlockPos cloudPos = cloud.getBlockPos();
-            if (pos.getY() > cloudPos.getY() + cloud.getHeight()) {
-                return false;
-            }
-            float radius = cloud.getSizeInBlocks();
-            return (cloudPos.getX() - pos.getX()) <= radius
-                    && (cloudPos.getZ() - pos.getZ()) <= radius;
+        // below an overhang, the heightmap can't tell us where the ground is
+        if (!world.isAir(pos)) {
+            return 0;
         }
+        do {
+            pos.move(Direction.DOWN);
+        } while (world.isAir(pos) && world.isInBuildLimit(pos));
+        return y - pos.getY();
+    }
 
-        public boolean shouldRemove() {
-            final StormCloudEntity cloud = this.cloud.get();
-            return cloud == null || cloud.isRemoved() || !cloud.isStormy();
+    private double getUpdraft(BlockPos.Mutable pos) {
+        Column column = getColumn(pos.getX(), pos.getZ());
+        if (pos.getY() >= column.surfaceY()) {
+            float altitude = pos.getY() - column.surfaceY() + 1;
+            return (1 - Math.min(MAX_UPDRAFT_HEIGHT, altitude) / MAX_UPDRAFT_HEIGHT) * column.temperature();
         }
+
+        double factor = 1 - Math.min(MAX_UPDRAFT_HEIGHT, getLocalAltitude(pos)) / MAX_UPDRAFT_HEIGHT;
+        return factor * getMaterialSurfaceTemperature(pos, world);
     }
 
+    private record Column(int surfaceY, float temperature, long expiry) {}
+
     public static Vec3d getAirflow(BlockPos pos, World world) {
+        WeatherConditions conditions = get(world);
         BlockPos.Mutable probedPosition = new BlockPos.Mutable();
 
-        final float terrainFactor = getScaledDistanceFromTerrain(probedPosition.set(pos), world, MAX_TERRAIN_HEIGHT);
-        final float windFactor = getScaledDistanceFromTerrain(probedPosition.set(pos), world, MAX_WIND_HEIGHT);
+        final float terrainFactor = Math.min(MAX_TERRAIN_HEIGHT, conditions.getLocalAltitude(probedPosition.set(pos))) / MAX_TERRAIN_HEIGHT;
+        final float windFactor = Math.min(MAX_WIND_HEIGHT, conditions.getLocalAltitude(probedPosition.set(pos))) / MAX_WIND_HEIGHT;
 
-        Vec3d terrainGradient = LOCAL_ALTITUDE_FIELD.computeAverage(world, pos, probedPosition).multiply(1 - terrainFactor);
-        Vec3d thermalGradient = THERMAL_FIELD.computeAverage(world, pos, probedPosition).multiply(1 - terrainFactor);
-        Vec3d wind = get(world).getWindDirection().multiply(windFactor);
+        Vec3d terrainGradient = conditions.localAltitudeField.computeAverage(world, pos, probedPosition).multiply(1 - terrainFactor);
+        Vec3d thermalGradient = conditions.thermalField.computeAverage(world, pos, probedPosition).multiply(1 - terrainFactor);
+        Vec3d wind = conditions.getWindDirection().multiply(windFactor);
 
         return terrainGradient
                 .add(thermalGradient)
@@ -177,12 +211,7 @@ public class WeatherConditions extends PersistentState implements Tickable {
     }
 
     public static double getUpdraft(BlockPos.Mutable pos, World world) {
-        double factor = 1 - getScaledDistanceFromTerrain(pos, world, MAX_UPDRAFT_HEIGHT);
-        return factor * getMaterialSurfaceTemperature(pos, world);
-    }
-
-    private static float getScaledDistanceFromTerrain(BlockPos.Mutable pos, World world, float maxDistance) {
-        return Math.min(maxDistance, LOCAL_ALTITUDE_FIELD.getValue(world, pos)) / maxDistance;
+        return get(world).getUpdraft(pos);
     }
 
     private static double getMaterialSurfaceTemperature(BlockPos.Mutable pos, World world) {
@@ -227,7 +256,8 @@ public class WeatherConditions extends PersistentState implements Tickable {
     }
 
     public static Vec3d getGustStrength(World world, BlockPos pos) {
-        Random random = getPositionalRandom(world, pos);
+        Random random = get(world).gustRandom;
+        random.setSeed(ChunkPos.toLong(pos) + world.getTime());
         float strength = 0.015F * random.nextFloat();
 
         if (random.nextInt(30) == 0) {
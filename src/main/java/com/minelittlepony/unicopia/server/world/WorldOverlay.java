@@ -11,30 +11,37 @@ import org.jetbrains.annotations.Nullable;
 import com.minelittlepony.unicopia.util.NbtSerialisable;
 import com.minelittlepony.unicopia.util.Tickable;
 
+import it.unimi.dsi.fastutil.HashCommon;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import net.minecraft.datafixer.DataFixTypes;
 import net.minecraft.nbt.NbtCompound;
+import net.minecraft.nbt.NbtElement;
+import net.minecraft.nbt.NbtList;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.server.world.ThreadedAnvilChunkStorage;
 import net.minecraft.util.Identifier;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.ChunkSectionPos;
 import net.minecraft.world.PersistentState;
 import net.minecraft.world.World;
 
 public class WorldOverlay<T extends WorldOverlay.State> extends PersistentState implements Tickable {
+    /**
+     * Number of independently locked partitions chunks are spread across. Must be a power of two.
+     */
+    private static final int STRIPES = 16;
 
     private final World world;
 
-    private final Long2ObjectMap<Chunk> chunks = new Long2ObjectOpenHashMap<>();
-
-    private final Object locker = new Object();
+    @SuppressWarnings("unchecked")
+    private final Stripe[] stripes = new WorldOverlay.Stripe[STRIPES];
 
     private final Supplier<T> factory;
     @Nullable
-    private final BiConsumer<Long2ObjectMap<T>, List<ServerPlayerEntity>> updateSender;
+    private final UpdateSender<T> updateSender;
 
     public static <T extends PersistentState> T getPersistableStorage(World world, Identifier id, BiFunction<World, NbtCompound, T> loadFunc, Function<World, T> factory) {
         if (world instanceof ServerWorld serverWorld) {
@@ -51,7 +58,7 @@ public class WorldOverlay<T extends WorldOverlay.State> extends PersistentState
         return ClientInstance.of(world, id, factory).instance();
     }
 
-    public static <T extends State> WorldOverlay<T> getOverlay(World world, Identifier id, Supplier<T> factory, @Nullable BiConsumer<Long2ObjectMap<T>, List<ServerPlayerEntity>> updateSender) {
+    public static <T extends State> WorldOverlay<T> getOverlay(World world, Identifier id, Supplier<T> factory, @Nullable UpdateSender<T> updateSender) {
         return getOverlay(world, id, w -> new WorldOverlay<>(w, factory, updateSender));
     }
 
@@ -63,67 +70,146 @@ public class WorldOverlay<T extends WorldOverlay.State> extends PersistentState
         }, overlayFactory);
     }
 
-    WorldOverlay(World world, Supplier<T> factory, @Nullable BiConsumer<Long2ObjectMap<T>, List<ServerPlayerEntity>> updateSender) {
+    WorldOverlay(World world, Supplier<T> factory, @Nullable UpdateSender<T> updateSender) {
         this.world = world;
         this.factory = factory;
         this.updateSender = updateSender;
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new Stripe();
+        }
     }
 
     @Override
     public NbtCompound writeNbt(NbtCompound compound) {
-        NbtCompound destructions = new NbtCompound();
-        this.chunks.forEach((id, chunk) -> {
-            destructions.put(id.toString(), chunk.toNBT());
-        });
-        compound.put("chunks", destructions);
+        NbtList chunks = new NbtList();
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                stripe.chunks.values().forEach(chunk -> chunks.add(chunk.toNBT()));
+                chunks.addAll(stripe.unloaded.values());
+            }
+        }
+        compound.put("chunks", chunks);
         return compound;
     }
 
     public void readNbt(NbtCompound compound) {
-        NbtCompound d = compound.getCompound("chunks");
-        d.getKeys().forEach(id -> {
-            chunks.computeIfAbsent(Long.valueOf(id), Chunk::new).fromNBT(d.getCompound(id));
+        if (compound.contains("chunks", NbtElement.COMPOUND_TYPE)) {
+            NbtCompound d = compound.getCompound("chunks");
+            d.getKeys().forEach(id -> {
+                long pos = Long.parseLong(id);
+                getStripe(pos).getChunk(pos, true).fromLegacyNbt(d.getCompound(id));
+            });
+            return;
+        }
+
+        // chunks are only read once something asks for them or they get loaded
+        compound.getList("chunks", NbtElement.COMPOUND_TYPE).forEach(element -> {
+            NbtCompound chunk = (NbtCompound)element;
+            long pos = chunk.getLong("pos");
+            getStripe(pos).unloaded.put(pos, chunk);
         });
     }
 
+    private Stripe getStripe(long chunkPos) {
+        return stripes[(int)HashCommon.mix(chunkPos) & (STRIPES - 1)];
+    }
+
+    private static long getChunkPos(BlockPos pos) {
+        return ChunkPos.toLong(ChunkSectionPos.getSectionCoord(pos.getX()), ChunkSectionPos.getSectionCoord(pos.getZ()));
+    }
+
     @Nullable
     public T getState(BlockPos pos) {
-        return getChunk(pos).getState(pos);
+        long chunkPos = getChunkPos(pos);
+        Stripe stripe = getStripe(chunkPos);
+        synchronized (stripe) {
+            Chunk chunk = stripe.getChunk(chunkPos, false);
+            return chunk == null ? null : chunk.getState(pos);
+        }
     }
 
     public T getOrCreateState(BlockPos pos) {
-        synchronized (locker) {
-            return getChunk(pos).getOrCreateState(pos);
+        long chunkPos = getChunkPos(pos);
+        Stripe stripe = getStripe(chunkPos);
+        synchronized (stripe) {
+            return stripe.getChunk(chunkPos, true).getOrCreateState(pos);
         }
     }
 
-    private Chunk getChunk(BlockPos pos) {
-        return chunks.computeIfAbsent(new ChunkPos(pos).toLong(), Chunk::new);
+    public void setState(BlockPos pos, @Nullable T state) {
+        long chunkPos = getChunkPos(pos);
+        Stripe stripe = getStripe(chunkPos);
+        synchronized (stripe) {
+            Chunk chunk = stripe.getChunk(chunkPos, state != null);
+            if (chunk != null) {
+                chunk.setState(pos, state);
+                markDirty();
+            }
+        }
     }
 
-    public void setState(BlockPos pos, @Nullable T state) {
-        synchronized (locker) {
-            getChunk(pos).setState(pos, state);
-            markDirty();
+    /**
+     * Reads any saved states for a chunk that has just been loaded.
+     */
+    public void onChunkLoaded(ChunkPos pos) {
+        long chunkPos = pos.toLong();
+        Stripe stripe = getStripe(chunkPos);
+        synchronized (stripe) {
+            stripe.getChunk(chunkPos, false);
         }
     }
 
     @Override
     public void tick() {
-        synchronized (locker) {
-            chunks.long2ObjectEntrySet().removeIf(entry -> entry.getValue().tick());
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                stripe.chunks.values().removeIf(Chunk::tick);
 
-            if (world instanceof ServerWorld) {
-                chunks.forEach((chunkPos, chunk) -> chunk.sendUpdates((ServerWorld)world));
+                if (world instanceof ServerWorld sw) {
+                    stripe.chunks.values().forEach(chunk -> chunk.sendUpdates(sw));
+                }
             }
         }
     }
 
+    private final class Stripe {
+        private final Long2ObjectMap<Chunk> chunks = new Long2ObjectOpenHashMap<>();
+        /**
+         * Saved chunks that haven't been read yet.
+         */
+        private final Long2ObjectMap<NbtCompound> unloaded = new Long2ObjectOpenHashMap<>();
+
+        @Nullable
+        Chunk getChunk(long pos, boolean create) {
+            Chunk chunk = chunks.get(pos);
+            if (chunk == null) {
+                @Nullable
+                NbtCompound data = unloaded.remove(pos);
+                if (data != null || create) {
+                    chunk = new Chunk(pos);
+                    if (data != null) {
+                        chunk.fromNBT(data);
+                    }
+                    chunks.put(pos, chunk);
+                }
+            }
+            return chunk;
+        }
+    }
+
     private class Chunk implements NbtSerialisable {
+        /**
+         * How often, in ticks, to look for players that have started watching a chunk with no pending changes.
+         */
+        private static final int WATCHER_REFRESH_INTERVAL = 10;
+
         private final Long2ObjectMap<T> states = new Long2ObjectOpenHashMap<>();
 
         private final long pos;
 
+        private boolean dirty;
+        private List<ServerPlayerEntity> watchers = List.of();
+
         Chunk(long pos) {
             this.pos = pos;
         }
@@ -146,7 +232,14 @@ public class WorldOverlay<T extends WorldOverlay.State> extends PersistentState
         }
 
         boolean tick() {
-            states.long2ObjectEntrySet().removeIf(e -> e.getValue().tick());
+            states.long2ObjectEntrySet().removeIf(e -> {
+                T state = e.getValue();
+                if (state.tick()) {
+                    return true;
+                }
+                dirty |= state.isDirty();
+                return false;
+            });
             return states.isEmpty();
         }
 
@@ -155,6 +248,10 @@ public class WorldOverlay<T extends WorldOverlay.State> extends PersistentState
                 return;
             }
 
+            if (!dirty && Math.floorMod(world.getTime() + pos, WATCHER_REFRESH_INTERVAL) != 0) {
+                return;
+            }
+
             if (!world.getChunkManager().isChunkLoaded(ChunkPos.getPackedX(pos), ChunkPos.getPackedZ(pos))) {
                 return;
             }
@@ -162,33 +259,72 @@ public class WorldOverlay<T extends WorldOverlay.State> extends PersistentState
             ThreadedAnvilChunkStorage storage = world.getChunkManager().threadedAnvilChunkStorage;
 
             List<ServerPlayerEntity> players = storage.getPlayersWatchingChunk(new ChunkPos(pos), false);
+            List<ServerPlayerEntity> newWatchers = players.stream().filter(player -> !watchers.contains(player)).toList();
+            List<ServerPlayerEntity> existingWatchers = newWatchers.isEmpty() ? players : players.stream().filter(player -> !newWatchers.contains(player)).toList();
 
-            if (!players.isEmpty()) {
-                updateSender.accept(states, players);
+            if (dirty || !newWatchers.isEmpty()) {
+                updateSender.sendUpdates(states, dirty ? existingWatchers : List.of(), newWatchers);
             }
+
+            watchers = players;
+            dirty = false;
         }
 
         @Override
         public void toNBT(NbtCompound compound) {
-            NbtCompound states = new NbtCompound();
-            this.states.forEach((id, state) -> {
-                states.put(id.toString(), state.toNBT());
-            });
-            compound.put("states", states);
+            long[] positions = new long[states.size()];
+            NbtList data = new NbtList();
+            int i = 0;
+            for (var entry : states.long2ObjectEntrySet()) {
+                positions[i++] = entry.getLongKey();
+                data.add(entry.getValue().toNBT());
+            }
+            compound.putLong("pos", pos);
+            compound.putLongArray("positions", positions);
+            compound.put("states", data);
         }
 
         @Override
         public void fromNBT(NbtCompound compound) {
+            long[] positions = compound.getLongArray("positions");
+            NbtList data = compound.getList("states", NbtElement.COMPOUND_TYPE);
+            states.clear();
+            for (int i = 0; i < positions.length && i < data.size(); i++) {
+                T state = factory.get();
+                state.fromNBT(data.getCompound(i));
+                states.put(positions[i], state);
+            }
+        }
+
+        void fromLegacyNbt(NbtCompound compound) {
             NbtCompound d = compound.getCompound("states");
-            chunks.clear();
+            states.clear();
             d.getKeys().forEach(id -> {
-                states.computeIfAbsent(Long.valueOf(id), i -> factory.get()).fromNBT(d.getCompound(id));
+                states.computeIfAbsent(Long.parseLong(id), i -> factory.get()).fromNBT(d.getCompound(id));
             });
         }
     }
 
     public interface State extends NbtSerialisable {
         boolean tick();
+
+        /**
+         * Whether this state has changed since it was last sent to watching players.
+         */
+        default boolean isDirty() {
+            return false;
+        }
+    }
+
+    public interface UpdateSender<T extends State> {
+        /**
+         * Sends a chunk's states to the players watching it.
+         *
+         * @param states      All of the states in the chunk
+         * @param watchers    Players that have already received the chunk and only need states that have changed
+         * @param newWatchers Players that have just started watching the chunk and need every state
+         */
+        void sendUpdates(Long2ObjectMap<T> states, List<ServerPlayerEntity> watchers, List<ServerPlayerEntity> newWatchers);
     }
 
     record ClientInstance<T extends PersistentState>(WeakReference<World> world, T instance) {
@@ -7,6 +7,7 @@ import org.jetbrains.annotations.Nullable;
 
 import com.minelittlepony.unicopia.USounds;
 import com.minelittlepony.unicopia.Unicopia;
+import com.minelittlepony.unicopia.block.zap.ZapStagedBlock;
 import com.minelittlepony.unicopia.network.Channel;
 import com.minelittlepony.unicopia.network.MsgZapAppleStage;
 import com.minelittlepony.unicopia.particle.LightningBoltParticleEffect;
@@ -14,6 +15,12 @@ import com.minelittlepony.unicopia.particle.ParticleUtils;
 import com.minelittlepony.unicopia.util.MeteorlogicalUtil;
 import com.minelittlepony.unicopia.util.Tickable;
 
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minecraft.block.BlockState;
 import net.minecraft.entity.EntityType;
 import net.minecraft.entity.LightningEntity;
 import net.minecraft.nbt.*;
@@ -21,6 +28,7 @@ import net.minecraft.sound.SoundCategory;
 import net.minecraft.util.Identifier;
 import net.minecraft.util.StringIdentifiable;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
 import net.minecraft.util.math.MathHelper;
 import net.minecraft.util.math.Vec3d;
 import net.minecraft.world.PersistentState;
@@ -30,8 +38,12 @@ import net.minecraft.world.event.GameEvent;
 
 public class ZapAppleStageStore extends PersistentState implements Tickable {
     private static final Identifier ID = Unicopia.id("zap_apple_stage");
-    static final long DAY_LENGTH = World.field_30969;
+    public static final long DAY_LENGTH = World.field_30969;
     static final long MOON_PHASES = DimensionType.MOON_SIZES.length;
+    /**
+     * The maximum number of chunks to push a stage change to in a single tick.
+     */
+    static final int CHUNKS_PER_TICK = 8;
 
     public static ZapAppleStageStore get(World world) {
         return WorldOverlay.getPersistableStorage(world, ID, ZapAppleStageStore::new, ZapAppleStageStore::new);
@@ -46,12 +58,32 @@ public class ZapAppleStageStore extends PersistentState implements Tickable {
     private int nextLightningEvent = 1200;
     private float prevSkyAngle;
 
+    /**
+     * Positions of every zap apple leaf that follows the global stage, keyed by chunk.
+     */
+    private final Long2ObjectMap<LongSet> trees = new Long2ObjectOpenHashMap<>();
+    /**
+     * Chunks with trees that have not been told about the current stage because they are not loaded.
+     */
+    private final LongSet staleChunks = new LongOpenHashSet();
+    /**
+     * Loaded chunks waiting to be told about the current stage.
+     */
+    private final LongArrayFIFOQueue pendingChunks = new LongArrayFIFOQueue();
+
     ZapAppleStageStore(World world, NbtCompound compound) {
         this(world);
         lastStage = Stage.VALUES[Math.max(0, compound.getInt("stage")) % Stage.VALUES.length];
         stageChanged = compound.getBoolean("stageChanged");
         playedMoonEffect = compound.getBoolean("playedMoonEffect");
         nextLightningEvent = compound.getInt("nextLightningEvent");
+        NbtCompound trees = compound.getCompound("trees");
+        trees.getKeys().forEach(id -> {
+            this.trees.put(Long.parseLong(id), new LongOpenHashSet(trees.getLongArray(id)));
+        });
+        for (long chunkPos : compound.getLongArray("staleChunks")) {
+            staleChunks.add(chunkPos);
+        }
     }
 
     ZapAppleStageStore(World world) {
@@ -78,6 +110,7 @@ public class ZapAppleStageStore extends PersistentState implements Tickable {
                     playedMoonEffect = false;
                     markDirty();
                     sendUpdate();
+                    onStageChanged();
                 }
             }
         } else if (stageChanged) {
@@ -86,6 +119,69 @@ public class ZapAppleStageStore extends PersistentState implements Tickable {
         }
 
         prevSkyAngle = skyAngle;
+
+        for (int i = 0; i < CHUNKS_PER_TICK && !pendingChunks.isEmpty(); i++) {
+            long chunkPos = pendingChunks.dequeueLong();
+            if (world.isChunkLoaded(ChunkPos.getPackedX(chunkPos), ChunkPos.getPackedZ(chunkPos))) {
+                pushStage(chunkPos);
+            } else {
+                staleChunks.add(chunkPos);
+            }
+        }
+    }
+
+    private void onStageChanged() {
+        staleChunks.clear();
+        pendingChunks.clear();
+        trees.keySet().forEach(chunkPos -> {
+            if (world.isChunkLoaded(ChunkPos.getPackedX(chunkPos), ChunkPos.getPackedZ(chunkPos))) {
+                pendingChunks.enqueue(chunkPos);
+            } else {
+                staleChunks.add(chunkPos);
+            }
+        });
+    }
+
+    private void pushStage(long chunkPos) {
+        LongSet positions = trees.get(chunkPos);
+        if (positions == null) {
+            return;
+        }
+        BlockPos.Mutable mutable = new BlockPos.Mutable();
+        positions.removeIf(pos -> {
+            BlockState state = world.getBlockState(mutable.set(pos));
+            if (state.getBlock() instanceof ZapStagedBlock staged) {
+                staged.scheduleStageChange(state, world, mutable.toImmutable(), lastStage);
+                return false;
+            }
+            return true;
+        });
+        if (positions.isEmpty()) {
+            trees.remove(chunkPos);
+        }
+        markDirty();
+    }
+
+    /**
+     * Called when a chunk is loaded to deliver any stage changes it missed while it was unloaded.
+     */
+    public void onChunkLoaded(ChunkPos pos) {
+        if (staleChunks.remove(pos.toLong())) {
+            pendingChunks.enqueue(pos.toLong());
+        }
+    }
+
+    /**
+     * Registers a zap apple leaf to be notified when the stage changes.
+     *
+     * @return true if the position was not already registered
+     */
+    public boolean addTree(BlockPos pos) {
+        if (trees.computeIfAbsent(ChunkPos.toLong(pos), chunkPos -> new LongOpenHashSet()).add(pos.asLong())) {
+            markDirty();
+            return true;
+        }
+        return false;
     }
 
     protected void sendUpdate() {
@@ -139,6 +235,18 @@ public class ZapAppleStageStore extends PersistentState implements Tickable {
         compound.putBoolean("stageChanged", stageChanged);
         compound.putBoolean("playedMoonEffect", playedMoonEffect);
         compound.putInt("nextLightningEvent", nextLightningEvent);
+        NbtCompound trees = new NbtCompound();
+        this.trees.forEach((chunkPos, positions) -> {
+            trees.putLongArray(chunkPos.toString(), positions.toLongArray());
+        });
+        compound.put("trees", trees);
+        LongSet stale = new LongOpenHashSet(staleChunks);
+        for (int i = 0; i < pendingChunks.size(); i++) {
+            long chunkPos = pendingChunks.dequeueLong();
+            stale.add(chunkPos);
+            pendingChunks.enqueue(chunkPos);
+        }
+        compound.putLongArray("staleChunks", stale.toLongArray());
         return compound;
     }
 
@@ -0,0 +1,44 @@
+package com.minelittlepony.unicopia.util.shape;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import net.minecraft.util.math.BlockPos;
+
+/**
+ * Computes (and for shapes with value equality, caches) the packed positions of the blocks inside a shape.
+ */
+final class BlockOffsets {
+    /**
+     * Maximum number of positions kept across all cached tables, around 8MB worth of longs.
+     */
+    private static final long MAX_CACHED_POSITIONS = 1 << 20;
+    private static final LoadingCache<Shape, long[]> CACHE = CacheBuilder.newBuilder()
+            .maximumWeight(MAX_CACHED_POSITIONS)
+            .weigher((Shape shape, long[] positions) -> Math.max(1, positions.length))
+            .build(CacheLoader.from(BlockOffsets::compute));
+
+    private BlockOffsets() {}
+
+    static long[] getCached(Shape shape) {
+        return CACHE.getUnchecked(shape);
+    }
+
+    static long[] compute(Shape shape) {
+        BlockPos min = BlockPos.ofFloored(shape.getLowerBound());
+        BlockPos max = BlockPos.ofFloored(shape.getUpperBound());
+        LongArrayList positions = new LongArrayList();
+        for (int z = min.getZ(); z <= max.getZ(); z++) {
+            for (int y = min.getY(); y <= max.getY(); y++) {
+                for (int x = min.getX(); x <= max.getX(); x++) {
+                    if (shape.isPointInside(x + 0.5, y + 0.5, z + 0.5)) {
+                        positions.add(BlockPos.asLong(x, y, z));
+                    }
+                }
+            }
+        }
+        return positions.toLongArray();
+    }
+}
@@ -33,6 +33,11 @@ record RotatedPointGenerator (
         return ((Shape)original).isPointInside(point.rotateY(-yaw).rotateX(-pitch));
     }
 
+    @Override
+    public long[] getBlockOffsets() {
+        return original instanceof Sphere ? BlockOffsets.getCached(this) : BlockOffsets.compute(this);
+    }
+
     private Vec3d rotate(Vec3d vec) {
         return vec.rotateX(pitch).rotateY(yaw);
     }
@@ -1,5 +1,8 @@
 package com.minelittlepony.unicopia.util.shape;
 
+import java.util.Arrays;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
 import java.util.stream.Stream;
 
 import net.minecraft.util.math.*;
@@ -32,14 +35,49 @@ public interface Shape extends PointGenerator {
      */
     boolean isPointInside(Vec3d point);
 
+    /**
+     * Checks if the given point is on the edge, or if not hollow the inside, of this shape.
+     */
+    default boolean isPointInside(double x, double y, double z) {
+        return isPointInside(new Vec3d(x, y, z));
+    }
+
+    /**
+     * Gets the packed positions (see {@link BlockPos#asLong}) of all the blocks that fit inside this shape.
+     * <p>
+     * The returned array may be shared between shapes of the same dimensions and must not be modified.
+     */
+    default long[] getBlockOffsets() {
+        return BlockOffsets.compute(this);
+    }
+
     /**
      * Returns a stream of all block positions that fit inside this shape.
+     * The positions are mutable and reused, so they must be copied if they need to be kept.
      */
     default Stream<BlockPos> getBlockPositions() {
-        return BlockPos.stream(
-            BlockPos.ofFloored(getLowerBound()),
-            BlockPos.ofFloored(getUpperBound())
-        ).filter(pos -> isPointInside(Vec3d.ofCenter(pos)));
+        BlockPos.Mutable mutable = new BlockPos.Mutable();
+        return Arrays.stream(getBlockOffsets()).mapToObj(mutable::set);
+    }
+
+    /**
+     * Visits all of the block positions that fit inside this shape.
+     * The position is reused between calls, so it must be copied if it needs to be kept.
+     */
+    default void forEachBlockPosition(Consumer<BlockPos.Mutable> consumer) {
+        BlockPos.Mutable mutable = new BlockPos.Mutable();
+        for (long pos : getBlockOffsets()) {
+            consumer.accept(mutable.set(pos));
+        }
+    }
+
+    /**
+     * Visits the packed positions of all the blocks that fit inside this shape.
+     */
+    default void forEachPackedBlockPosition(LongConsumer consumer) {
+        for (long pos : getBlockOffsets()) {
+            consumer.accept(pos);
+        }
     }
 
     /**
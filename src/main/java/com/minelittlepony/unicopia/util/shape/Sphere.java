@@ -87,13 +87,25 @@ public class Sphere implements Shape {
 
     @Override
     public boolean isPointInside(Vec3d point) {
-        point = new Vec3d(point.x / stretch.x, point.y / stretch.y, point.z / stretch.z);
+        return isPointInside(point.x, point.y, point.z);
+    }
+
+    @Override
+    public boolean isPointInside(double x, double y, double z) {
+        x /= stretch.x;
+        y /= stretch.y;
+        z /= stretch.z;
 
-        double dist = point.length();
+        double dist = Math.sqrt(x * x + y * y + z * z);
 
         return hollow ? dist == rad : dist <= rad;
     }
 
+    @Override
+    public long[] getBlockOffsets() {
+        return BlockOffsets.getCached(this);
+    }
+
     @Override
     public Vec3d getLowerBound() {
         return stretch.multiply(-rad);
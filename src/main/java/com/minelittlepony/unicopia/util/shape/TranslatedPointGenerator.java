@@ -1,5 +1,9 @@
 package com.minelittlepony.unicopia.util.shape;
 
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Vec3d;
 import net.minecraft.util.math.random.Random;
 
@@ -30,7 +34,55 @@ record TranslatedPointGenerator (
 
     @Override
     public boolean isPointInside(Vec3d point) {
-        return ((Shape)source).isPointInside(point.subtract(offset));
+        return isPointInside(point.x, point.y, point.z);
+    }
+
+    @Override
+    public boolean isPointInside(double x, double y, double z) {
+        return ((Shape)source).isPointInside(x - offset.x, y - offset.y, z - offset.z);
+    }
+
+    /**
+     * Whether this shape is moved by whole blocks, in which case its blocks are those of the source shape moved by the same amount.
+     */
+    private boolean hasBlockAlignedOffset() {
+        return offset.x == Math.floor(offset.x) && offset.y == Math.floor(offset.y) && offset.z == Math.floor(offset.z);
+    }
+
+    @Override
+    public long[] getBlockOffsets() {
+        if (!hasBlockAlignedOffset()) {
+            return BlockOffsets.compute(this);
+        }
+        long[] positions = ((Shape)source).getBlockOffsets().clone();
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = BlockPos.add(positions[i], (int)offset.x, (int)offset.y, (int)offset.z);
+        }
+        return positions;
+    }
+
+    @Override
+    public void forEachBlockPosition(Consumer<BlockPos.Mutable> consumer) {
+        if (!hasBlockAlignedOffset()) {
+            Shape.super.forEachBlockPosition(consumer);
+            return;
+        }
+        int x = (int)offset.x;
+        int y = (int)offset.y;
+        int z = (int)offset.z;
+        ((Shape)source).forEachBlockPosition(pos -> consumer.accept(pos.move(x, y, z)));
+    }
+
+    @Override
+    public void forEachPackedBlockPosition(LongConsumer consumer) {
+        if (!hasBlockAlignedOffset()) {
+            Shape.super.forEachPackedBlockPosition(consumer);
+            return;
+        }
+        int x = (int)offset.x;
+        int y = (int)offset.y;
+        int z = (int)offset.z;
+        ((Shape)source).forEachPackedBlockPosition(pos -> consumer.accept(BlockPos.add(pos, x, y, z)));
     }
 
     @Override